@@ -0,0 +1,34 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용으로 웹 서버 없이 in-memory H2 위에서 애플리케이션을 띄웁니다.
+ */
+final class BenchmarkApplication {
+
+    private static final String[] DEFAULT_ARGS = {
+        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.properties.hibernate.generate_statistics=false",
+        "--spring.mail.host=localhost",
+        "--mail.outbox.initial-delay-ms=3600000",
+        "--user.login.flush-interval-ms=3600000",
+        "--logging.level.root=warn"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... args) {
+        String[] allArgs = Stream.concat(Arrays.stream(DEFAULT_ARGS), Arrays.stream(args)).toArray(String[]::new);
+        return new SpringApplicationBuilder(DemoApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(allArgs);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.dto.ApiErrorResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 404 한 번의 비용을 비교합니다.
+ * depth 만큼 프레임을 쌓은 뒤 예외를 던지고 맨 위에서 잡아 응답 본문을 만드는 것으로 MVC/프록시 프레임을 흉내냅니다.
+ * legacy 는 스택 트레이스를 만들고 메시지 문자열을 매번 조립하던 이전 방식입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionBenchmark {
+
+    @Param({"16", "128"})
+    private int depth;
+
+    private long id = 123456789L;
+
+    @Benchmark
+    public String legacyNotFound() {
+        try {
+            return descend(depth, true);
+        } catch (LegacyResourceNotFoundException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ApiErrorResponse stacklessNotFound() {
+        try {
+            descend(depth, false);
+            return null;
+        } catch (ResourceNotFoundException exception) {
+            return exception.getErrorResponse();
+        }
+    }
+
+    private String descend(int remaining, boolean legacy) {
+        if (remaining > 0) {
+            return descend(remaining - 1, legacy);
+        }
+        if (legacy) {
+            throw new LegacyResourceNotFoundException("Users", id);
+        }
+        throw new ResourceNotFoundException("Users", id);
+    }
+
+    private static class LegacyResourceNotFoundException extends RuntimeException {
+
+        LegacyResourceNotFoundException(String datasource, long id) {
+            super(datasource + "에서 ID " + id + "를 찾을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.JacksonConfig;
+import com.example.demo.model.UserStatus;
+import com.example.demo.model.dto.MyProfileResponse;
+import com.example.demo.model.dto.PostCreateDto;
+import com.example.demo.model.dto.PostResponse;
+import com.example.demo.model.dto.PostUpdateDto;
+import com.example.demo.model.dto.UserCreateDto;
+import com.example.demo.model.dto.UserResponse;
+import com.example.demo.model.dto.UserUpdateDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 요청 DTO 역직렬화와 응답 DTO 직렬화 처리량을 비교합니다.
+ * default 는 Spring 기본 설정의 ObjectMapper, tuned 는 {@link JacksonConfig} 를 기본값으로 적용한 ObjectMapper 입니다.
+ * sharedPool 과 blackbird 는 기본으로 꺼둔 버퍼 공유 풀과 Blackbird 를 각각 켠 ObjectMapper 입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"default", "tuned", "sharedPool", "blackbird"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private PostResponse postResponse;
+    private UserResponse userResponse;
+    private MyProfileResponse myProfileResponse;
+    private byte[] postCreateJson;
+    private byte[] postUpdateJson;
+    private byte[] userCreateJson;
+    private byte[] userUpdateJson;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (!mapper.equals("default")) {
+            new JacksonConfig()
+                .jacksonTuningCustomizer(mapper.equals("sharedPool"), mapper.equals("blackbird"))
+                .customize(builder);
+        }
+        objectMapper = builder.build();
+
+        userResponse = new UserResponse(1L, "dobidugi@gmail.com", "dobidugi", UserStatus.ACTIVE, 1678530673958L);
+        myProfileResponse = new MyProfileResponse(1L, "dobidugi@gmail.com", "dobidugi", "서울시 강남구", UserStatus.ACTIVE, 1678530673958L);
+        postResponse = new PostResponse(1L, "helloworld", 1678530673958L, 1678530680000L, userResponse);
+
+        postCreateJson = bytes("{\"writerId\":1,\"content\":\"helloworld\"}");
+        postUpdateJson = bytes("{\"content\":\"update content\"}");
+        userCreateJson = bytes("{\"email\":\"dobidugi@gmail.com\",\"nickname\":\"dobidugi\",\"address\":\"서울시 강남구\"}");
+        userUpdateJson = bytes("{\"nickname\":\"dobidugi2\",\"address\":\"인천시\"}");
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializePostResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeUserResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeMyProfileResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(myProfileResponse);
+    }
+
+    @Benchmark
+    public PostCreateDto deserializePostCreateDto() throws IOException {
+        return objectMapper.readValue(postCreateJson, PostCreateDto.class);
+    }
+
+    @Benchmark
+    public PostUpdateDto deserializePostUpdateDto() throws IOException {
+        return objectMapper.readValue(postUpdateJson, PostUpdateDto.class);
+    }
+
+    @Benchmark
+    public UserCreateDto deserializeUserCreateDto() throws IOException {
+        return objectMapper.readValue(userCreateJson, UserCreateDto.class);
+    }
+
+    @Benchmark
+    public UserUpdateDto deserializeUserUpdateDto() throws IOException {
+        return objectMapper.readValue(userUpdateJson, UserUpdateDto.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.UserStatus;
+import com.example.demo.repository.PostEntity;
+import com.example.demo.repository.UserEntity;
+
+/**
+ * ResponseMapper 이전에 컨트롤러에 있던 setter 기반 매핑을 비교용으로 옮겨둔 것입니다.
+ */
+final class LegacyResponseMapping {
+
+    private LegacyResponseMapping() {
+    }
+
+    static UserResponse toResponse(UserEntity userEntity) {
+        UserResponse userResponse = new UserResponse();
+        userResponse.setId(userEntity.getId());
+        userResponse.setEmail(userEntity.getEmail());
+        userResponse.setNickname(userEntity.getNickname());
+        userResponse.setStatus(userEntity.getStatus());
+        userResponse.setLastLoginAt(userEntity.getLastLoginAt());
+        return userResponse;
+    }
+
+    static PostResponse toResponse(PostEntity postEntity) {
+        PostResponse postResponse = new PostResponse();
+        postResponse.setId(postEntity.getId());
+        postResponse.setContent(postEntity.getContent());
+        postResponse.setCreatedAt(postEntity.getCreatedAt());
+        postResponse.setModifiedAt(postEntity.getModifiedAt());
+        postResponse.setWriter(toResponse(postEntity.getWriter()));
+        return postResponse;
+    }
+
+    static class UserResponse {
+
+        private Long id;
+        private String email;
+        private String nickname;
+        private UserStatus status;
+        private Long lastLoginAt;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+
+        public void setNickname(String nickname) {
+            this.nickname = nickname;
+        }
+
+        public UserStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(UserStatus status) {
+            this.status = status;
+        }
+
+        public Long getLastLoginAt() {
+            return lastLoginAt;
+        }
+
+        public void setLastLoginAt(Long lastLoginAt) {
+            this.lastLoginAt = lastLoginAt;
+        }
+    }
+
+    static class PostResponse {
+
+        private Long id;
+        private String content;
+        private Long createdAt;
+        private Long modifiedAt;
+        private UserResponse writer;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public Long getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Long getModifiedAt() {
+            return modifiedAt;
+        }
+
+        public void setModifiedAt(Long modifiedAt) {
+            this.modifiedAt = modifiedAt;
+        }
+
+        public UserResponse getWriter() {
+            return writer;
+        }
+
+        public void setWriter(UserResponse writer) {
+            this.writer = writer;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 서버에 지정한 수만큼의 동시 연결로 GET 요청을 보내고 처리량을 출력합니다.
+ * 사용법: LoadDriver [url] [concurrency] [durationSeconds]
+ */
+public final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/users/1");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+        LongAdder totalLatencyNanos = new LongAdder();
+
+        // 요청 스레드가 모두 끝날 때까지 HttpClient 의 executor 가 닫히지 않도록 따로 만들고, 요청 스레드보다 나중에 닫습니다.
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+            long deadline = System.nanoTime() + duration.toNanos();
+
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() < 400) {
+                                succeeded.increment();
+                            } else {
+                                failed.increment();
+                            }
+                        } catch (Exception exception) {
+                            failed.increment();
+                        }
+                        totalLatencyNanos.add(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+
+        long requests = succeeded.sum() + failed.sum();
+        System.out.printf("url=%s concurrency=%d duration=%ds%n", uri, concurrency, duration.toSeconds());
+        System.out.printf("requests=%d succeeded=%d failed=%d%n", requests, succeeded.sum(), failed.sum());
+        System.out.printf("throughput=%.1f req/s mean latency=%.2f ms%n",
+            requests / (double) duration.toSeconds(),
+            requests == 0 ? 0.0 : totalLatencyNanos.sum() / (double) requests / 1_000_000);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.controller.ResponseMapper;
+import com.example.demo.model.UserStatus;
+import com.example.demo.model.dto.MyProfileResponse;
+import com.example.demo.model.dto.PostResponse;
+import com.example.demo.model.dto.UserResponse;
+import com.example.demo.repository.PostEntity;
+import com.example.demo.repository.UserEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * legacy* 는 컨트롤러에 있던 setter 기반 매핑이고, 나머지는 ResponseMapper 의 record 매핑입니다.
+ * 목록 매핑은 같은 작성자의 게시글 20개(기본 페이지 크기)를 변환합니다.
+ * CPU 1개 환경에서 잰 값(baseline.json)으로는 record 매핑이 setter 기반 매핑보다 빠르지 않습니다.
+ * 단건과 직렬화는 오차 범위 안에서 같고, 목록 매핑은 오히려 10% 정도 느렸습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ResponseMapper responseMapper;
+    private ObjectMapper objectMapper;
+    private UserEntity userEntity;
+    private PostEntity postEntity;
+    private List<PostEntity> postEntities;
+    private PostResponse postResponse;
+    private LegacyResponseMapping.PostResponse legacyPostResponse;
+
+    @Setup
+    public void setUp() {
+        responseMapper = new ResponseMapper(null);
+        objectMapper = new ObjectMapper();
+
+        userEntity = new UserEntity();
+        userEntity.setId(1L);
+        userEntity.setEmail("dobidugi@gmail.com");
+        userEntity.setNickname("dobidugi");
+        userEntity.setAddress("서울시 강남구");
+        userEntity.setStatus(UserStatus.ACTIVE);
+        userEntity.setLastLoginAt(1678530673958L);
+
+        postEntity = post(1L);
+        postEntities = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            postEntities.add(post(id));
+        }
+
+        postResponse = responseMapper.toPostResponse(postEntity);
+        legacyPostResponse = LegacyResponseMapping.toResponse(postEntity);
+    }
+
+    private PostEntity post(long id) {
+        PostEntity post = new PostEntity();
+        post.setId(id);
+        post.setContent("helloworld");
+        post.setCreatedAt(1678530673958L);
+        post.setModifiedAt(1678530680000L);
+        post.setWriter(userEntity);
+        return post;
+    }
+
+    @Benchmark
+    public PostResponse postToResponse() {
+        return responseMapper.toPostResponse(postEntity);
+    }
+
+    @Benchmark
+    public LegacyResponseMapping.PostResponse legacyPostToResponse() {
+        return LegacyResponseMapping.toResponse(postEntity);
+    }
+
+    @Benchmark
+    public List<PostResponse> postPageToResponses() {
+        return responseMapper.toPostResponses(postEntities);
+    }
+
+    @Benchmark
+    public List<LegacyResponseMapping.PostResponse> legacyPostPageToResponses() {
+        return postEntities.stream().map(LegacyResponseMapping::toResponse).toList();
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return responseMapper.toUserResponse(userEntity);
+    }
+
+    @Benchmark
+    public MyProfileResponse userToMyProfileResponse() {
+        return responseMapper.toMyProfileResponse(userEntity);
+    }
+
+    @Benchmark
+    public byte[] serializePostResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] legacySerializePostResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(legacyPostResponse);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePost() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseMapper.toPostResponse(postEntity));
+    }
+
+    @Benchmark
+    public byte[] legacyMapAndSerializePost() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(LegacyResponseMapping.toResponse(postEntity));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DemoApplication 을 새 JVM 으로 여러 번 띄우고, 프로세스 시작부터 /health_check.html 이 처음 200 을 돌려줄 때까지의 시간을 출력합니다.
+ * 매 실행은 SIGTERM 으로 정상 종료하므로 -XX:+AutoCreateSharedArchive 를 주면 첫 실행이 CDS 아카이브를 만듭니다.
+ * 사용법: StartupTimeDriver [runs] [classpath, - 면 현재 classpath] [JVM 옵션 (공백으로 구분)]
+ */
+public final class StartupTimeDriver {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private StartupTimeDriver() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String classpath = args.length > 1 && !args[1].equals("-") ? args[1] : System.getProperty("java.class.path");
+        List<String> jvmArgs = args.length > 2 && !args[2].isBlank() ? Arrays.asList(args[2].trim().split("\\s+")) : List.of();
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+        long[] startupMillis = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            startupMillis[run] = startOnce(client, classpath, jvmArgs);
+            System.out.printf("run=%d time-to-first-request=%d ms%n", run + 1, startupMillis[run]);
+        }
+
+        Arrays.sort(startupMillis);
+        System.out.printf("runs=%d jvmArgs=%s%n", runs, jvmArgs);
+        System.out.printf("min=%d ms median=%d ms max=%d ms%n",
+            startupMillis[0], startupMillis[runs / 2], startupMillis[runs - 1]);
+    }
+
+    private static long startOnce(HttpClient client, String classpath, List<String> jvmArgs)
+        throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Dserver.port=" + port);
+        command.add("-cp");
+        command.add(classpath);
+        command.add("com.example.demo.DemoApplication");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/health_check.html"))
+            .timeout(Duration.ofSeconds(1))
+            .GET()
+            .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited during startup with code " + process.exitValue());
+                }
+                if (isUp(client, request)) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean isUp(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
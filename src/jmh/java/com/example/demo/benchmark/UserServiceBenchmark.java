@@ -0,0 +1,61 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.UserStatus;
+import com.example.demo.repository.UserEntity;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.UserService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    @Param({"none", "caffeine"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private long userId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(
+            "--spring.cache.type=" + cacheType,
+            "--spring.cache.caffeine.spec=maximumSize=1000,expireAfterWrite=60s");
+        userService = context.getBean(UserService.class);
+
+        UserEntity userEntity = new UserEntity();
+        userEntity.setEmail("dobidugi@gmail.com");
+        userEntity.setNickname("dobidugi");
+        userEntity.setAddress("서울시 강남구");
+        userEntity.setStatus(UserStatus.ACTIVE);
+        userId = context.getBean(UserRepository.class).save(userEntity).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserEntity getById() {
+        return userService.getById(userId);
+    }
+}
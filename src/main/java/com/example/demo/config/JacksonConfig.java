@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+
+/**
+ * Spring 이 만드는 ObjectMapper 를 조정합니다.
+ * 버퍼 공유 풀(json.recycler-pool.shared)은 JsonBenchmark 에서 직렬화가 3~4배 느려졌고, Blackbird(json.blackbird.enabled)는 일관된 개선이 없어 둘 다 기본으로 끕니다.
+ * 같은 장비에서 잰 JsonBenchmark 결과가 나아질 때만 켜주세요. Blackbird 는 native image 에서는 동작하지 않아 켜더라도 등록하지 않습니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jacksonTuningCustomizer(
+        @Value("${json.recycler-pool.shared:false}") boolean sharedRecyclerPool,
+        @Value("${json.blackbird.enabled:false}") boolean blackbirdEnabled) {
+        return builder -> {
+            JsonFactoryBuilder factoryBuilder = new JsonFactoryBuilder()
+                .disable(StreamReadFeature.INCLUDE_SOURCE_IN_LOCATION);
+            if (sharedRecyclerPool) {
+                factoryBuilder.recyclerPool(JsonRecyclerPools.sharedBoundedPool());
+            }
+            builder.factory(factoryBuilder.build())
+                .featuresToDisable(MapperFeature.USE_GETTERS_AS_SETTERS, SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            if (blackbirdEnabled && !NativeDetector.inNativeImage()) {
+                builder.postConfigurer(objectMapper -> objectMapper.registerModule(new BlackbirdModule()));
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import java.time.Clock;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 그 외의 작업은 primary 로 보냅니다.
+ * 쓰기 트랜잭션이 커밋되면 그 요청(세션)의 읽기만 readYourWritesMillis 동안 primary 로 보냅니다. 트랜잭션 없는 작업과 롤백된 트랜잭션은 쓰기로 치지 않습니다.
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 키를 결정해야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final long readYourWritesMillis;
+    private final Clock clock;
+
+    ReadOnlyRoutingDataSource(long readYourWritesMillis, Clock clock) {
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            ReadYourWritesSession.written(clock.millis() + readYourWritesMillis);
+                        }
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWritesSession.isPrimaryRequired(clock.millis())) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 쓰기 트랜잭션이 커밋되면 read-your-writes 창이 끝나는 시각을 쿠키로 내려주고, 다음 요청에서 그 쿠키를 읽어 같은 세션의 읽기를 primary 로 보냅니다.
+ * 쿠키 값은 지금부터 readYourWritesMillis 뒤까지만 믿으므로 클라이언트가 값을 바꿔도 primary 에 오래 묶이지 않습니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "db-primary-until";
+
+    private final long readYourWritesMillis;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(long readYourWritesMillis, Clock clock) {
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        long primaryUntil = Math.min(readPrimaryUntil(request), clock.millis() + readYourWritesMillis);
+        ReadYourWritesSession.begin(primaryUntil, written -> writeCookie(response, written));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesSession.end();
+        }
+    }
+
+    private long readPrimaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void writeCookie(HttpServletResponse response, long primaryUntil) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(primaryUntil));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (readYourWritesMillis + 999) / 1000));
+        response.addCookie(cookie);
+    }
+}
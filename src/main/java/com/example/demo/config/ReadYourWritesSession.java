@@ -0,0 +1,45 @@
+package com.example.demo.config;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 요청(세션) 하나의 read-your-writes 창입니다. ReadYourWritesFilter 가 요청마다 열고 닫습니다.
+ * 요청 밖(스케줄러, 헬스 체크 등)에서는 창이 없으므로 그곳의 쓰기가 다른 요청의 라우팅을 바꾸지 않습니다.
+ */
+final class ReadYourWritesSession {
+
+    private static final ThreadLocal<ReadYourWritesSession> CURRENT = new ThreadLocal<>();
+
+    private final LongConsumer onWrite;
+    private long primaryUntil;
+
+    private ReadYourWritesSession(long primaryUntil, LongConsumer onWrite) {
+        this.primaryUntil = primaryUntil;
+        this.onWrite = onWrite;
+    }
+
+    static void begin(long primaryUntil, LongConsumer onWrite) {
+        CURRENT.set(new ReadYourWritesSession(primaryUntil, onWrite));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static boolean isPrimaryRequired(long now) {
+        ReadYourWritesSession session = CURRENT.get();
+        return session != null && now < session.primaryUntil;
+    }
+
+    /**
+     * 이 요청에서 쓰기 트랜잭션이 커밋되었음을 기록합니다. primaryUntil 까지는 이 세션의 읽기를 primary 로 보냅니다.
+     */
+    static void written(long primaryUntil) {
+        ReadYourWritesSession session = CURRENT.get();
+        if (session == null || primaryUntil <= session.primaryUntil) {
+            return;
+        }
+        session.primaryUntil = primaryUntil;
+        session.onWrite.accept(primaryUntil);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * datasource.replica.enabled=true 일 때 spring.datasource.* 를 primary 풀로, datasource.replica.hikari.* 를 replica 풀로 만들고
+ * {@code @Transactional(readOnly = true)} 작업을 replica 로 라우팅합니다.
+ * 쓰기 직후 같은 세션의 읽기는 ReadYourWritesFilter 가 내려주는 쿠키로 primary 에 남깁니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        @Value("${datasource.replica.read-your-writes-ms:1000}") long readYourWritesMillis) {
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource(readYourWritesMillis, Clock.systemUTC());
+        routingDataSource.setTargetDataSources(Map.of(
+            ReadOnlyRoutingDataSource.PRIMARY, primaryDataSource,
+            ReadOnlyRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${datasource.replica.read-your-writes-ms:1000}") long readYourWritesMillis) {
+        return new ReadYourWritesFilter(readYourWritesMillis, Clock.systemUTC());
+    }
+}
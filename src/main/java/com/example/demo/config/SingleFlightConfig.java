@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import com.example.demo.repository.PostSnapshot;
+import com.example.demo.repository.UserSnapshot;
+import com.example.demo.service.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<Long, PostSnapshot> postSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("posts", meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<Long, UserSnapshot> userSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("users", meterRegistry);
+    }
+}
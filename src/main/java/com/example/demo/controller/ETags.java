@@ -0,0 +1,82 @@
+package com.example.demo.controller;
+
+import com.example.demo.repository.PostEntity;
+import com.example.demo.repository.PostVersionView;
+import com.example.demo.repository.UserEntity;
+
+/**
+ * 엔티티의 version 으로 strong ETag 를 만들고, If-Match 헤더에서 version 을 꺼냅니다.
+ * 로그인 시각은 version 을 올리지 않고 반영되므로 응답에 들어가는 lastLoginAt 도 태그에 넣습니다.
+ * 유저 ETag 는 "버전-로그인시각", 게시물 ETag 는 "게시물버전-수정시각-작성자버전-작성자로그인시각" 형태이고 맨 앞은 항상 version 입니다.
+ */
+final class ETags {
+
+    private static final long UNMATCHABLE_VERSION = -1L;
+
+    private ETags() {
+    }
+
+    static String of(UserEntity userEntity) {
+        return tag(userEntity.getVersion(), userEntity.getLastLoginAt());
+    }
+
+    static String of(PostEntity postEntity) {
+        UserEntity writer = postEntity.getWriter();
+        return tag(postEntity.getVersion(), postEntity.getModifiedAt(), writer.getVersion(), writer.getLastLoginAt());
+    }
+
+    static String of(PostVersionView postVersionView) {
+        return tag(postVersionView.getPostVersion(), postVersionView.getPostModifiedAt(),
+            postVersionView.getWriterVersion(), postVersionView.getWriterLastLoginAt());
+    }
+
+    private static String tag(Long... parts) {
+        StringBuilder tag = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                tag.append('-');
+            }
+            tag.append(parts[i] == null ? 0L : parts[i]);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * If-None-Match 는 weak 비교를 하므로 W/ 접두사를 무시합니다.
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 가 없거나 * 이면 null 을 돌려줍니다. 해석할 수 없는 값은 어떤 버전과도 일치하지 않습니다.
+     */
+    static Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return UNMATCHABLE_VERSION;
+        }
+        tag = tag.substring(1, tag.length() - 1);
+        int separator = tag.indexOf('-');
+        try {
+            return Long.parseLong(separator < 0 ? tag : tag.substring(0, separator));
+        } catch (NumberFormatException exception) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+}
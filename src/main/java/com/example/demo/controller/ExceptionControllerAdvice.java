@@ -1,13 +1,27 @@
 package com.example.demo.controller;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
+import com.example.demo.exception.BatchSizeExceededException;
 import com.example.demo.exception.CertificationCodeNotMatchedException;
+import com.example.demo.exception.InvalidCursorException;
+import com.example.demo.exception.InvalidIdsException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.exception.VersionConflictException;
+import com.example.demo.model.dto.ApiErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -18,18 +32,94 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @RequiredArgsConstructor
 public class ExceptionControllerAdvice {
 
+    private static final String UNIQUE_USER_EMAIL = "uk_users_email";
+    private static final ApiErrorResponse DUPLICATE_RESOURCE =
+        new ApiErrorResponse("DUPLICATE_RESOURCE", "이미 존재하는 데이터입니다.");
+
+    private final MeterRegistry meterRegistry;
+
     @ResponseBody
     @ResponseStatus(NOT_FOUND)
     @ExceptionHandler(ResourceNotFoundException.class)
-    public String resourceNotFoundException(ResourceNotFoundException exception) {
-        return exception.getMessage();
+    public ApiErrorResponse resourceNotFoundException(ResourceNotFoundException exception) {
+        count(exception);
+        return exception.getErrorResponse();
     }
 
     @ResponseBody
     @ResponseStatus(FORBIDDEN)
     @ExceptionHandler(CertificationCodeNotMatchedException.class)
-    public String certificationCodeNotMatchedException(CertificationCodeNotMatchedException exception) {
-        return exception.getMessage();
+    public ApiErrorResponse certificationCodeNotMatchedException(CertificationCodeNotMatchedException exception) {
+        count(exception);
+        return exception.getErrorResponse();
+    }
+
+    @ResponseBody
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ApiErrorResponse invalidCursorException(InvalidCursorException exception) {
+        count(exception);
+        return exception.getErrorResponse();
+    }
+
+    @ResponseBody
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public ApiErrorResponse batchSizeExceededException(BatchSizeExceededException exception) {
+        count(exception);
+        return exception.getErrorResponse();
+    }
+
+    @ResponseBody
+    @ResponseStatus(BAD_REQUEST)
+    @ExceptionHandler(InvalidIdsException.class)
+    public ApiErrorResponse invalidIdsException(InvalidIdsException exception) {
+        count(exception);
+        return exception.getErrorResponse();
+    }
+
+    @ResponseBody
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(VersionConflictException.class)
+    public ApiErrorResponse versionConflictException(VersionConflictException exception) {
+        count(exception);
+        return exception.getErrorResponse();
+    }
+
+    @ResponseBody
+    @ResponseStatus(TOO_MANY_REQUESTS)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ApiErrorResponse tooManyRequestsException(TooManyRequestsException exception) {
+        count(exception);
+        return exception.getErrorResponse();
+    }
+
+    /**
+     * 이메일 유니크 제약 위반만 409 로 바꿉니다. 그 외의 무결성 위반은 다시 던져 기존처럼 처리되게 합니다.
+     */
+    @ResponseBody
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ApiErrorResponse dataIntegrityViolationException(DataIntegrityViolationException exception) {
+        if (!violates(exception, UNIQUE_USER_EMAIL)) {
+            throw exception;
+        }
+        count(exception);
+        return DUPLICATE_RESOURCE;
+    }
+
+    private static boolean violates(Throwable exception, String constraintName) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolation) {
+                String violated = constraintViolation.getConstraintName();
+                return violated != null && violated.toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+
+    private void count(RuntimeException exception) {
+        meterRegistry.counter("api.exceptions", "exception", exception.getClass().getSimpleName()).increment();
     }
 
-}
+}
\ No newline at end of file
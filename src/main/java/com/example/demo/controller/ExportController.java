@@ -0,0 +1,70 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.dto.PostResponse;
+import com.example.demo.model.dto.UserResponse;
+import com.example.demo.service.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "내보내기(export)")
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+    private final ResponseMapper responseMapper;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(ndjson(UserResponse.class, consumer ->
+                exportService.exportUsers(userEntity -> consumer.accept(responseMapper.toUserResponse(userEntity)))));
+    }
+
+    @GetMapping("/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ResponseEntity
+            .ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(ndjson(PostResponse.class, consumer ->
+                exportService.exportPosts(postEntities -> responseMapper.toPostResponses(postEntities).forEach(consumer))));
+    }
+
+    private <T> StreamingResponseBody ndjson(Class<T> type, Consumer<Consumer<T>> source) {
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.accept(value -> writeLine(writer, generator, value));
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+        };
+    }
+
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, Object value) {
+        try {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package com.example.demo.controller;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "헬스 체크")
 @RestController
+@RequiredArgsConstructor
 public class HealthCheckController {
 
+    private final HealthEndpoint healthEndpoint;
+
     @GetMapping("/health_check.html")
     public ResponseEntity<Void> healthCheck() {
+        HealthComponent readiness = healthEndpoint.healthForPath("readiness");
+        if (readiness == null || !Status.UP.equals(readiness.getStatus())) {
+            return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .build();
+        }
         return ResponseEntity
             .ok()
             .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import com.example.demo.exception.BatchSizeExceededException;
+import com.example.demo.exception.InvalidIdsException;
+import java.util.List;
+
+/**
+ * 여러 건 조회(?ids=) 요청의 id 목록을 검사합니다. 유저와 게시글 조회가 같은 상한을 씁니다.
+ */
+final class MultiGetIds {
+
+    static final int MAX_SIZE = 100;
+
+    private MultiGetIds() {
+    }
+
+    /**
+     * 상한을 넘거나 ?ids=1,,2 처럼 비어 있는 id 가 있으면 400 으로 응답하도록 예외를 던집니다.
+     */
+    static void validate(List<Long> ids) {
+        if (ids.size() > MAX_SIZE) {
+            throw new BatchSizeExceededException(MAX_SIZE);
+        }
+        for (Long id : ids) {
+            if (id == null) {
+                throw new InvalidIdsException();
+            }
+        }
+    }
+}
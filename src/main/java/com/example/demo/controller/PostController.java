@@ -1,17 +1,35 @@
 package com.example.demo.controller;
 
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.PostCursor;
+import com.example.demo.model.dto.PostMultiGetResponse;
+import com.example.demo.model.dto.PostPageResponse;
 import com.example.demo.model.dto.PostResponse;
+import com.example.demo.model.dto.PostSearchResponse;
 import com.example.demo.model.dto.PostUpdateDto;
 import com.example.demo.repository.PostEntity;
+import com.example.demo.service.PostSearchResult;
 import com.example.demo.service.PostService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "게시물(posts)")
@@ -20,30 +38,131 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostService postService;
-    private final UserController userController;
+    private final ResponseMapper responseMapper;
+
+    @Value("${http.cache.post-max-age-seconds:10}")
+    private long postMaxAgeSeconds;
+
+    @GetMapping
+    public ResponseEntity<PostPageResponse> getPosts(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Long writerId,
+        @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<PostEntity> postEntities = postService.getPage(PostCursor.decode(cursor), writerId, pageSize + 1);
+        boolean hasNext = postEntities.size() > pageSize;
+        if (hasNext) {
+            postEntities = postEntities.subList(0, pageSize);
+        }
+
+        PostPageResponse postPageResponse = new PostPageResponse();
+        postPageResponse.setPosts(responseMapper.toPostResponses(postEntities));
+        if (hasNext) {
+            PostEntity last = postEntities.get(pageSize - 1);
+            postPageResponse.setNextCursor(new PostCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+        return ResponseEntity
+            .ok()
+            .body(postPageResponse);
+    }
+
+    /**
+     * 여러 게시글을 요청한 순서대로 돌려줍니다. 찾지 못한 게시글은 전체를 실패시키지 않고 항목별로 404 를 표시합니다.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<PostMultiGetResponse> getPostsByIds(@RequestParam List<Long> ids) {
+        MultiGetIds.validate(ids);
+        Map<Long, PostEntity> postEntities = postService.findAllByIds(ids);
+        List<PostEntity> found = ids.stream()
+            .map(postEntities::get)
+            .filter(Objects::nonNull)
+            .toList();
+        Iterator<PostResponse> postResponses = responseMapper.toPostResponses(found).iterator();
+
+        List<PostMultiGetResponse.Item> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostMultiGetResponse.Item item = new PostMultiGetResponse.Item();
+            item.setId(id);
+            if (postEntities.containsKey(id)) {
+                item.setStatus(HttpStatus.OK.value());
+                item.setPost(postResponses.next());
+            } else {
+                item.setStatus(HttpStatus.NOT_FOUND.value());
+                item.setMessage(new ResourceNotFoundException("Posts", id).getMessage());
+            }
+            items.add(item);
+        }
+
+        PostMultiGetResponse postMultiGetResponse = new PostMultiGetResponse();
+        postMultiGetResponse.setItems(items);
+        return ResponseEntity
+            .ok()
+            .body(postMultiGetResponse);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponse> searchPosts(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PostSearchResult postSearchResult = postService.search(q, pageNumber, pageSize);
+
+        PostSearchResponse postSearchResponse = new PostSearchResponse();
+        postSearchResponse.setPosts(responseMapper.toPostResponses(postSearchResult.posts()));
+        postSearchResponse.setTotal(postSearchResult.total());
+        postSearchResponse.setPage(pageNumber);
+        postSearchResponse.setSize(pageSize);
+        return ResponseEntity
+            .ok()
+            .body(postSearchResponse);
+    }
 
+    /**
+     * If-None-Match 가 있으면 버전만 조회해서 비교하고, 일치하면 매핑/직렬화 없이 304 를 반환합니다.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPostById(@PathVariable long id) {
+    public ResponseEntity<PostResponse> getPostById(
+        @PathVariable long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String eTag = ETags.of(postService.getVersions(id));
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl())
+                    .build();
+            }
+        }
+        PostEntity postEntity = postService.getById(id);
         return ResponseEntity
             .ok()
-            .body(toResponse(postService.getById(id)));
+            .eTag(ETags.of(postEntity))
+            .cacheControl(cacheControl())
+            .body(responseMapper.toPostResponse(postEntity));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<PostResponse> updatePost(@PathVariable long id, @RequestBody PostUpdateDto postUpdateDto) {
+    public ResponseEntity<PostResponse> updatePost(
+        @PathVariable long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody PostUpdateDto postUpdateDto) {
+        PostEntity postEntity = postService.update(id, postUpdateDto, ETags.versionOf(ifMatch));
         return ResponseEntity
             .ok()
-            .body(toResponse(postService.update(id, postUpdateDto)));
+            .eTag(ETags.of(postEntity))
+            .body(responseMapper.toPostResponse(postEntity));
     }
 
-    public PostResponse toResponse(PostEntity postEntity) {
-        PostResponse PostResponse = new PostResponse();
-        PostResponse.setId(postEntity.getId());
-        PostResponse.setContent(postEntity.getContent());
-        PostResponse.setCreatedAt(postEntity.getCreatedAt());
-        PostResponse.setModifiedAt(postEntity.getModifiedAt());
-        PostResponse.setWriter(userController.toResponse(postEntity.getWriter()));
-        return PostResponse;
+    /**
+     * 응답에 작성자의 이메일이 포함되므로 공유 캐시(CDN)에는 저장하지 않습니다.
+     */
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(postMaxAgeSeconds)).cachePrivate().mustRevalidate();
     }
-}
\ No newline at end of file
+}
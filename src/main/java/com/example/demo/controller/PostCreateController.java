@@ -1,9 +1,15 @@
 package com.example.demo.controller;
 
+import com.example.demo.exception.BatchSizeExceededException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.dto.PostBatchCreateResponse;
 import com.example.demo.model.dto.PostCreateDto;
 import com.example.demo.model.dto.PostResponse;
+import com.example.demo.repository.PostEntity;
 import com.example.demo.service.PostService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +24,49 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PostCreateController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final PostService postService;
-    private final PostController postController;
+    private final ResponseMapper responseMapper;
 
     @PostMapping
     public ResponseEntity<PostResponse> createPost(@RequestBody PostCreateDto postCreateDto) {
         return ResponseEntity
             .status(HttpStatus.CREATED)
-            .body(postController.toResponse(postService.create(postCreateDto)));
+            .body(responseMapper.toPostResponse(postService.create(postCreateDto)));
+    }
+
+    /**
+     * 모든 항목이 작성되면 201, 하나라도 실패하면 항목별 상태를 담아 207 을 반환합니다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<PostBatchCreateResponse> createPosts(@RequestBody List<PostCreateDto> postCreateDtos) {
+        if (postCreateDtos.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException(MAX_BATCH_SIZE);
+        }
+        List<PostEntity> postEntities = postService.createAll(postCreateDtos);
+
+        List<PostBatchCreateResponse.Item> items = new ArrayList<>(postEntities.size());
+        boolean allCreated = true;
+        for (int i = 0; i < postEntities.size(); i++) {
+            PostBatchCreateResponse.Item item = new PostBatchCreateResponse.Item();
+            item.setIndex(i);
+            PostEntity postEntity = postEntities.get(i);
+            if (postEntity == null) {
+                allCreated = false;
+                item.setStatus(HttpStatus.NOT_FOUND.value());
+                item.setMessage(new ResourceNotFoundException("Users", postCreateDtos.get(i).getWriterId()).getMessage());
+            } else {
+                item.setStatus(HttpStatus.CREATED.value());
+                item.setPost(responseMapper.toPostResponse(postEntity));
+            }
+            items.add(item);
+        }
+
+        PostBatchCreateResponse postBatchCreateResponse = new PostBatchCreateResponse();
+        postBatchCreateResponse.setItems(items);
+        return ResponseEntity
+            .status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+            .body(postBatchCreateResponse);
     }
-}
\ No newline at end of file
+}
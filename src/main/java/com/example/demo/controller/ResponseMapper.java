@@ -0,0 +1,104 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.dto.MyProfileResponse;
+import com.example.demo.model.dto.PostResponse;
+import com.example.demo.model.dto.UserResponse;
+import com.example.demo.repository.PostEntity;
+import com.example.demo.repository.UserEntity;
+import com.example.demo.service.PostService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티를 불변 응답 DTO 로 변환합니다.
+ * DTO 가 불변이므로 목록을 변환할 때 같은 작성자의 응답은 한 번만 만들어 공유하고, 압축된 본문은 변환하기 전에 한 번의 쿼리로 읽어옵니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseMapper {
+
+    private final PostService postService;
+
+    public UserResponse toUserResponse(UserEntity userEntity) {
+        return new UserResponse(
+            userEntity.getId(),
+            userEntity.getEmail(),
+            userEntity.getNickname(),
+            userEntity.getStatus(),
+            userEntity.getLastLoginAt());
+    }
+
+    public MyProfileResponse toMyProfileResponse(UserEntity userEntity) {
+        return new MyProfileResponse(
+            userEntity.getId(),
+            userEntity.getEmail(),
+            userEntity.getNickname(),
+            userEntity.getAddress(),
+            userEntity.getStatus(),
+            userEntity.getLastLoginAt());
+    }
+
+    /**
+     * 게시글 하나를 변환합니다. 본문이 압축되어 있으면 변환하기 전에 읽어옵니다.
+     */
+    public PostResponse toPostResponse(PostEntity postEntity) {
+        String content = postEntity.isContentExternalized()
+            ? postService.getContent(postEntity.getId())
+            : postEntity.getContent();
+        return toPostResponse(postEntity, toUserResponse(postEntity.getWriter()), content);
+    }
+
+    public List<PostResponse> toPostResponses(List<PostEntity> postEntities) {
+        Map<Long, String> contents = loadExternalizedContents(postEntities);
+        Map<Long, UserResponse> writers = new HashMap<>();
+        List<PostResponse> postResponses = new ArrayList<>(postEntities.size());
+        for (PostEntity postEntity : postEntities) {
+            UserEntity writer = postEntity.getWriter();
+            UserResponse userResponse = writers.get(writer.getId());
+            if (userResponse == null) {
+                userResponse = toUserResponse(writer);
+                writers.put(writer.getId(), userResponse);
+            }
+            postResponses.add(toPostResponse(postEntity, userResponse, contentOf(postEntity, contents)));
+        }
+        return postResponses;
+    }
+
+    /**
+     * 한 작성자의 게시글 목록을 변환합니다. 게시글에 붙어 있는 작성자 대신 주어진 작성자를 씁니다.
+     */
+    public List<PostResponse> toPostResponses(List<PostEntity> postEntities, UserEntity writer) {
+        Map<Long, String> contents = loadExternalizedContents(postEntities);
+        UserResponse userResponse = toUserResponse(writer);
+        List<PostResponse> postResponses = new ArrayList<>(postEntities.size());
+        for (PostEntity postEntity : postEntities) {
+            postResponses.add(toPostResponse(postEntity, userResponse, contentOf(postEntity, contents)));
+        }
+        return postResponses;
+    }
+
+    private Map<Long, String> loadExternalizedContents(List<PostEntity> postEntities) {
+        List<Long> externalizedIds = postEntities.stream()
+            .filter(PostEntity::isContentExternalized)
+            .map(PostEntity::getId)
+            .toList();
+        return externalizedIds.isEmpty() ? Map.of() : postService.getContents(externalizedIds);
+    }
+
+    private static String contentOf(PostEntity postEntity, Map<Long, String> contents) {
+        return postEntity.isContentExternalized() ? contents.get(postEntity.getId()) : postEntity.getContent();
+    }
+
+    private PostResponse toPostResponse(PostEntity postEntity, UserResponse writer, String content) {
+        return new PostResponse(
+            postEntity.getId(),
+            content,
+            postEntity.getCreatedAt(),
+            postEntity.getModifiedAt(),
+            writer);
+    }
+}
@@ -1,15 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.dto.MyProfileResponse;
+import com.example.demo.model.dto.PostResponse;
+import com.example.demo.model.dto.UserMultiGetResponse;
 import com.example.demo.model.dto.UserResponse;
 import com.example.demo.model.dto.UserUpdateDto;
 import com.example.demo.repository.UserEntity;
+import com.example.demo.service.PostService;
 import com.example.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,20 +40,93 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final PostService postService;
+    private final ResponseMapper responseMapper;
+
+    @Value("${http.cache.user-max-age-seconds:10}")
+    private long userMaxAgeSeconds;
+
+    /**
+     * 여러 유저를 요청한 순서대로 돌려줍니다. 찾지 못한 유저는 전체를 실패시키지 않고 항목별로 404 를 표시합니다.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserMultiGetResponse> getUsersByIds(@RequestParam List<Long> ids) {
+        MultiGetIds.validate(ids);
+        Map<Long, UserEntity> userEntities = userService.findAllByIds(ids);
+
+        List<UserMultiGetResponse.Item> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            UserMultiGetResponse.Item item = new UserMultiGetResponse.Item();
+            item.setId(id);
+            UserEntity userEntity = userEntities.get(id);
+            if (userEntity == null) {
+                item.setStatus(HttpStatus.NOT_FOUND.value());
+                item.setMessage(new ResourceNotFoundException("Users", id).getMessage());
+            } else {
+                item.setStatus(HttpStatus.OK.value());
+                item.setUser(responseMapper.toUserResponse(userEntity));
+            }
+            items.add(item);
+        }
+
+        UserMultiGetResponse userMultiGetResponse = new UserMultiGetResponse();
+        userMultiGetResponse.setItems(items);
+        return ResponseEntity
+            .ok()
+            .body(userMultiGetResponse);
+    }
 
     @ResponseStatus
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable long id) {
+    public ResponseEntity<UserResponse> getUserById(
+        @PathVariable long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        UserEntity userEntity = userService.getById(id);
+        String eTag = ETags.of(userEntity);
+        // 이메일이 포함된 응답이므로 공유 캐시(CDN)에는 저장하지 않습니다.
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(userMaxAgeSeconds)).cachePrivate().mustRevalidate();
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity
+                .status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .build();
+        }
         return ResponseEntity
             .ok()
-            .body(toResponse(userService.getById(id)));
+            .eTag(eTag)
+            .cacheControl(cacheControl)
+            .body(responseMapper.toUserResponse(userEntity));
     }
 
+    /**
+     * 작성자의 최신 게시글입니다. 게시글 본문은 타임라인 캐시에서, 작성자 정보는 유저 캐시에서 가져옵니다.
+     */
+    @GetMapping("/{id}/posts")
+    public ResponseEntity<List<PostResponse>> getTimeline(
+        @PathVariable long id,
+        @RequestParam(defaultValue = "20") int size) {
+        UserEntity userEntity = userService.getById(id);
+        List<PostResponse> postResponses = responseMapper.toPostResponses(
+            postService.getTimeline(id, Math.max(1, size)), userEntity);
+        return ResponseEntity
+            .ok()
+            .body(postResponses);
+    }
+
+    /**
+     * 인증에 성공하면 302 로, 이미 인증된 유저면 아무것도 바꾸지 않고 303 으로 프론트엔드에 보냅니다.
+     * 이미 인증된 유저는 인증 코드가 지워져 있어 코드가 맞는지 확인하지 않습니다.
+     */
     @GetMapping("/{id}/verify")
     public ResponseEntity<Void> verifyEmail(
         @PathVariable long id,
         @RequestParam String certificationCode) {
-        userService.verifyEmail(id, certificationCode);
+        if (!userService.verifyEmail(id, certificationCode)) {
+            return ResponseEntity.status(HttpStatus.SEE_OTHER)
+                .location(URI.create("http://localhost:3000?alreadyVerified=true"))
+                .build();
+        }
         return ResponseEntity.status(HttpStatus.FOUND)
             .location(URI.create("http://localhost:3000"))
             .build();
@@ -57,7 +141,8 @@ public class UserController {
         userService.login(userEntity.getId());
         return ResponseEntity
             .ok()
-            .body(toMyProfileResponse(userEntity));
+            .eTag(ETags.of(userEntity))
+            .body(responseMapper.toMyProfileResponse(userEntity));
     }
 
     @PutMapping("/me")
@@ -65,33 +150,14 @@ public class UserController {
     public ResponseEntity<MyProfileResponse> updateMyInfo(
         @Parameter(name = "EMAIL", in = ParameterIn.HEADER)
         @RequestHeader("EMAIL") String email, // 일반적으로 스프링 시큐리티를 사용한다면 UserPrincipal 에서 가져옵니다.
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody UserUpdateDto userUpdateDto
     ) {
         UserEntity userEntity = userService.getByEmail(email);
-        userEntity = userService.update(userEntity.getId(), userUpdateDto);
+        userEntity = userService.update(userEntity, userUpdateDto, ETags.versionOf(ifMatch));
         return ResponseEntity
             .ok()
-            .body(toMyProfileResponse(userEntity));
-    }
-
-    public UserResponse toResponse(UserEntity userEntity) {
-        UserResponse userResponse = new UserResponse();
-        userResponse.setId(userEntity.getId());
-        userResponse.setEmail(userEntity.getEmail());
-        userResponse.setNickname(userEntity.getNickname());
-        userResponse.setStatus(userEntity.getStatus());
-        userResponse.setLastLoginAt(userEntity.getLastLoginAt());
-        return userResponse;
-    }
-
-    public MyProfileResponse toMyProfileResponse(UserEntity userEntity) {
-        MyProfileResponse myProfileResponse = new MyProfileResponse();
-        myProfileResponse.setId(userEntity.getId());
-        myProfileResponse.setEmail(userEntity.getEmail());
-        myProfileResponse.setNickname(userEntity.getNickname());
-        myProfileResponse.setStatus(userEntity.getStatus());
-        myProfileResponse.setAddress(userEntity.getAddress());
-        myProfileResponse.setLastLoginAt(userEntity.getLastLoginAt());
-        return myProfileResponse;
+            .eTag(ETags.of(userEntity))
+            .body(responseMapper.toMyProfileResponse(userEntity));
     }
-}
\ No newline at end of file
+}
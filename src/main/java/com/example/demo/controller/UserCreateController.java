@@ -2,9 +2,10 @@ package com.example.demo.controller;
 
 import com.example.demo.model.dto.UserCreateDto;
 import com.example.demo.model.dto.UserResponse;
-import com.example.demo.repository.UserEntity;
+import com.example.demo.service.SignupRateLimiter;
 import com.example.demo.service.UserService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,15 +20,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserCreateController {
 
-    private final UserController userController;
+    private final ResponseMapper responseMapper;
     private final UserService userService;
+    private final SignupRateLimiter signupRateLimiter;
 
+    /**
+     * 이미 인증 대기중인 이메일이면 저장된 정보를 내려주지 않고 본문 없이 202 를 반환합니다.
+     * 클라이언트 IP 는 server.forward-headers-strategy 설정에 따라 신뢰하는 프록시가 보낸 X-Forwarded-For 에서 가져옵니다.
+     */
     @PostMapping
-    public ResponseEntity<UserResponse> createUser(@RequestBody UserCreateDto userCreateDto) {
-        UserEntity userEntity = userService.create(userCreateDto);
-        return ResponseEntity
-            .status(HttpStatus.CREATED)
-            .body(userController.toResponse(userEntity));
+    public ResponseEntity<UserResponse> createUser(HttpServletRequest request, @RequestBody UserCreateDto userCreateDto) {
+        signupRateLimiter.check(request.getRemoteAddr(), userCreateDto.getEmail());
+        return userService.create(userCreateDto)
+            .map(userEntity -> ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(responseMapper.toUserResponse(userEntity)))
+            .orElseGet(() -> ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .build());
     }
 
 }
\ No newline at end of file
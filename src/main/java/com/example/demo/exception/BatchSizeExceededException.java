@@ -0,0 +1,17 @@
+package com.example.demo.exception;
+
+import com.example.demo.model.dto.ApiErrorResponse;
+
+public class BatchSizeExceededException extends DomainException {
+
+    private final ApiErrorResponse errorResponse;
+
+    public BatchSizeExceededException(int maxSize) {
+        this.errorResponse = new ApiErrorResponse("BATCH_SIZE_EXCEEDED", "한 번에 최대 " + maxSize + "개까지 요청할 수 있습니다.");
+    }
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return errorResponse;
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.demo.exception;
 
-public class CertificationCodeNotMatchedException extends RuntimeException {
+import com.example.demo.model.dto.ApiErrorResponse;
 
-    public CertificationCodeNotMatchedException() {
-        super("자격 증명에 실패하였습니다.");
+public class CertificationCodeNotMatchedException extends DomainException {
+
+    private static final ApiErrorResponse ERROR_RESPONSE =
+        new ApiErrorResponse("CERTIFICATION_CODE_NOT_MATCHED", "자격 증명에 실패하였습니다.");
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return ERROR_RESPONSE;
     }
 }
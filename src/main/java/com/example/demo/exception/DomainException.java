@@ -0,0 +1,24 @@
+package com.example.demo.exception;
+
+import com.example.demo.model.dto.ApiErrorResponse;
+
+/**
+ * 조회 실패처럼 자주 발생하는 도메인 예외의 기반 클래스입니다.
+ * 스택 트레이스를 만들지 않고, 메시지는 getMessage 가 호출될 때 만듭니다.
+ * 디버깅이 필요하면 -Dexceptions.capture-stack-trace=true 로 스택 트레이스를 켤 수 있습니다.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private static final boolean CAPTURE_STACK_TRACE = Boolean.getBoolean("exceptions.capture-stack-trace");
+
+    protected DomainException() {
+        super(null, null, false, CAPTURE_STACK_TRACE);
+    }
+
+    public abstract ApiErrorResponse getErrorResponse();
+
+    @Override
+    public String getMessage() {
+        return getErrorResponse().message();
+    }
+}
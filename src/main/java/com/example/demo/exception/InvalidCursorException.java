@@ -0,0 +1,25 @@
+package com.example.demo.exception;
+
+import com.example.demo.model.dto.ApiErrorResponse;
+
+public class InvalidCursorException extends DomainException {
+
+    private static final ApiErrorResponse ERROR_RESPONSE =
+        new ApiErrorResponse("INVALID_CURSOR", "유효하지 않은 커서입니다.");
+
+    private final String cursor;
+
+    public InvalidCursorException(String cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+
+    @Override
+    public String getMessage() {
+        return "유효하지 않은 커서 " + cursor + "입니다.";
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.exception;
+
+import com.example.demo.model.dto.ApiErrorResponse;
+
+public class InvalidIdsException extends DomainException {
+
+    private static final ApiErrorResponse ERROR_RESPONSE =
+        new ApiErrorResponse("INVALID_IDS", "ids 에 비어 있는 id 가 있습니다.");
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+}
@@ -1,12 +1,33 @@
 package com.example.demo.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+import com.example.demo.model.dto.ApiErrorResponse;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ResourceNotFoundException extends DomainException {
+
+    private static final ConcurrentHashMap<String, ApiErrorResponse> ERROR_RESPONSES = new ConcurrentHashMap<>();
+
+    private final String datasource;
+    private final Object id;
 
     public ResourceNotFoundException(String datasource, long id) {
-        super(datasource + "에서 ID " + id + "를 찾을 수 없습니다.");
+        this.datasource = datasource;
+        this.id = id;
     }
 
     public ResourceNotFoundException(String datasource, String id) {
-        super(datasource + "에서 ID " + id + "를 찾을 수 없습니다.");
+        this.datasource = datasource;
+        this.id = id;
+    }
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return ERROR_RESPONSES.computeIfAbsent(datasource,
+            key -> new ApiErrorResponse("RESOURCE_NOT_FOUND", key + "에서 요청한 ID 를 찾을 수 없습니다."));
+    }
+
+    @Override
+    public String getMessage() {
+        return datasource + "에서 ID " + id + "를 찾을 수 없습니다.";
     }
 }
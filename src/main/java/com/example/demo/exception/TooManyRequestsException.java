@@ -0,0 +1,14 @@
+package com.example.demo.exception;
+
+import com.example.demo.model.dto.ApiErrorResponse;
+
+public class TooManyRequestsException extends DomainException {
+
+    private static final ApiErrorResponse ERROR_RESPONSE =
+        new ApiErrorResponse("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.exception;
+
+import com.example.demo.model.dto.ApiErrorResponse;
+
+public class VersionConflictException extends DomainException {
+
+    private static final ApiErrorResponse ERROR_RESPONSE =
+        new ApiErrorResponse("VERSION_CONFLICT", "다른 요청에 의해 먼저 수정되었습니다. 다시 조회한 뒤 시도해주세요.");
+
+    private final String datasource;
+    private final long id;
+
+    public VersionConflictException(String datasource, long id) {
+        this.datasource = datasource;
+        this.id = id;
+    }
+
+    @Override
+    public ApiErrorResponse getErrorResponse() {
+        return ERROR_RESPONSE;
+    }
+
+    @Override
+    public String getMessage() {
+        return datasource + "에서 ID " + id + "가 다른 요청에 의해 먼저 수정되었습니다.";
+    }
+}
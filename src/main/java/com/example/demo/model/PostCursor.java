@@ -0,0 +1,35 @@
+package com.example.demo.model;
+
+import com.example.demo.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기준 keyset 페이지네이션의 위치입니다. 이 위치보다 이전에 작성된 게시물을 가져옵니다.
+ */
+public record PostCursor(long createdAt, long id) {
+
+    public static final PostCursor FIRST = new PostCursor(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private static final char SEPARATOR = ':';
+
+    public static PostCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new PostCursor(
+                Long.parseLong(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String raw = String.valueOf(createdAt) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
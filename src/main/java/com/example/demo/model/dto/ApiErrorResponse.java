@@ -0,0 +1,7 @@
+package com.example.demo.model.dto;
+
+/**
+ * 에러 응답 본문입니다. 예외마다 미리 만들어 둔 인스턴스를 그대로 내려줍니다.
+ */
+public record ApiErrorResponse(String code, String message) {
+}
@@ -1,17 +1,12 @@
 package com.example.demo.model.dto;
 
 import com.example.demo.model.UserStatus;
-import lombok.Getter;
-import lombok.Setter;
 
-@Getter
-@Setter
-public class MyProfileResponse {
-
-    private Long id;
-    private String email;
-    private String nickname;
-    private String address;
-    private UserStatus status;
-    private Long lastLoginAt;
+public record MyProfileResponse(
+    Long id,
+    String email,
+    String nickname,
+    String address,
+    UserStatus status,
+    Long lastLoginAt) {
 }
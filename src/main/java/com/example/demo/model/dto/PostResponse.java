@@ -1,15 +1,9 @@
 package com.example.demo.model.dto;
 
-import lombok.Getter;
-import lombok.Setter;
-
-@Getter
-@Setter
-public class PostResponse {
-
-    private Long id;
-    private String content;
-    private Long createdAt;
-    private Long modifiedAt;
-    private UserResponse writer;
+public record PostResponse(
+    Long id,
+    String content,
+    Long createdAt,
+    Long modifiedAt,
+    UserResponse writer) {
 }
@@ -0,0 +1,15 @@
+package com.example.demo.model.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PostSearchResponse {
+
+    private List<PostResponse> posts;
+    private int total;
+    private int page;
+    private int size;
+}
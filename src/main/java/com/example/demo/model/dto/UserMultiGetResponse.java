@@ -0,0 +1,22 @@
+package com.example.demo.model.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UserMultiGetResponse {
+
+    private List<Item> items;
+
+    @Getter
+    @Setter
+    public static class Item {
+
+        private long id;
+        private int status;
+        private UserResponse user;
+        private String message;
+    }
+}
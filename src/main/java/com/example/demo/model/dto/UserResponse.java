@@ -1,16 +1,11 @@
 package com.example.demo.model.dto;
 
 import com.example.demo.model.UserStatus;
-import lombok.Getter;
-import lombok.Setter;
 
-@Getter
-@Setter
-public class UserResponse {
-
-    private Long id;
-    private String email;
-    private String nickname;
-    private UserStatus status;
-    private Long lastLoginAt;
+public record UserResponse(
+    Long id,
+    String email,
+    String nickname,
+    UserStatus status,
+    Long lastLoginAt) {
 }
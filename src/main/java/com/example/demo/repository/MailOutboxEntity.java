@@ -0,0 +1,59 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.MailOutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "mail_outbox", indexes = @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+public class MailOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient")
+    private String recipient;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "body", length = 1000)
+    private String body;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status;
+
+    @Column(name = "attempts")
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private Long nextAttemptAt;
+
+    @Column(name = "created_at")
+    private Long createdAt;
+
+    @Column(name = "sent_at")
+    private Long sentAt;
+
+    /**
+     * 이 메일을 가져간 dispatch 실행의 식별자입니다. SENDING 일 때만 값이 있습니다.
+     */
+    @Column(name = "claim_token")
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private Long claimedAt;
+}
@@ -0,0 +1,71 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.MailOutboxStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long> {
+
+    /**
+     * 발송할 차례가 된 PENDING 메일과, 가져간 인스턴스가 staleBefore 까지 결과를 남기지 않은 SENDING 메일입니다.
+     */
+    @Query("select m.id from MailOutboxEntity m"
+        + " where (m.status = :pending and m.nextAttemptAt <= :now)"
+        + " or (m.status = :sending and m.claimedAt <= :staleBefore)"
+        + " order by m.id")
+    List<Long> findClaimableIds(
+        @Param("pending") MailOutboxStatus pending,
+        @Param("sending") MailOutboxStatus sending,
+        @Param("now") long now,
+        @Param("staleBefore") long staleBefore,
+        Pageable pageable);
+
+    /**
+     * 조회한 뒤 다른 인스턴스가 먼저 가져가지 않은 메일만 SENDING 으로 바꾸고 claimToken 을 남깁니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutboxEntity m set m.status = :sending, m.claimToken = :claimToken, m.claimedAt = :now"
+        + " where m.id in :ids"
+        + " and ((m.status = :pending and m.nextAttemptAt <= :now) or (m.status = :sending and m.claimedAt <= :staleBefore))")
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("pending") MailOutboxStatus pending,
+        @Param("sending") MailOutboxStatus sending,
+        @Param("claimToken") String claimToken,
+        @Param("now") long now,
+        @Param("staleBefore") long staleBefore);
+
+    List<MailOutboxEntity> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    @Modifying
+    @Query("update MailOutboxEntity m set m.status = :sent, m.sentAt = :now, m.claimToken = null, m.claimedAt = null"
+        + " where m.id in :ids and m.claimToken = :claimToken")
+    int markSent(
+        @Param("ids") Collection<Long> ids,
+        @Param("claimToken") String claimToken,
+        @Param("sent") MailOutboxStatus sent,
+        @Param("now") long now);
+
+    @Modifying
+    @Query("update MailOutboxEntity m set m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt,"
+        + " m.claimToken = null, m.claimedAt = null"
+        + " where m.id = :id and m.claimToken = :claimToken")
+    int markFailed(
+        @Param("id") long id,
+        @Param("claimToken") String claimToken,
+        @Param("status") MailOutboxStatus status,
+        @Param("attempts") int attempts,
+        @Param("nextAttemptAt") long nextAttemptAt);
+
+    Optional<MailOutboxEntity> findFirstByStatusInOrderByIdAsc(Collection<MailOutboxStatus> statuses);
+
+    long countByStatusIn(Collection<MailOutboxStatus> statuses);
+}
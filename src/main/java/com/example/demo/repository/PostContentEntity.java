@@ -0,0 +1,60 @@
+package com.example.demo.repository;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 인라인 임계값을 넘는 게시글 본문을 압축해서 보관합니다.
+ * PostEntity 와 연관관계를 맺지 않으므로 게시글을 조회할 때 함께 읽히지 않습니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "post_contents")
+public class PostContentEntity implements Persistable<Long> {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Lob
+    @Column(name = "data")
+    private byte[] data;
+
+    @Column(name = "original_length")
+    private int originalLength;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    /**
+     * id 를 직접 지정하므로 save 가 merge 전에 select 를 하지 않도록 새 엔티티임을 알려줍니다.
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostContentRepository extends JpaRepository<PostContentEntity, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PostContentEntity c where c.postId = :postId")
+    int deleteByPostId(@Param("postId") long postId);
+}
@@ -2,36 +2,56 @@ package com.example.demo.repository;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_posts_user_id_created_at_id", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_posts_modified_at", columnList = "modified_at")
+})
 public class PostEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "content")
     private String content;
 
+    /**
+     * true 면 본문이 압축되어 post_contents 에 있고 content 는 null 입니다.
+     */
+    @ColumnDefault("false")
+    @Column(name = "content_externalized", nullable = false)
+    private boolean contentExternalized;
+
     @Column(name = "created_at")
     private Long createdAt;
 
     @Column(name = "modified_at")
     private Long modifiedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private UserEntity writer;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+public interface PostIndexView {
+
+    Long getId();
+
+    Long getVersion();
+
+    String getContent();
+
+    Boolean getContentExternalized();
+}
@@ -1,7 +1,91 @@
 package com.example.demo.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
+    @EntityGraph(attributePaths = "writer")
+    @Transactional(readOnly = true)
+    Optional<PostEntity> findWithWriterById(long id);
+
+    @Query("select p.version as postVersion, p.modifiedAt as postModifiedAt, w.version as writerVersion, w.lastLoginAt as writerLastLoginAt"
+        + " from PostEntity p join p.writer w where p.id = :id")
+    Optional<PostVersionView> findVersionsById(@Param("id") long id);
+
+    @Query("select p from PostEntity p join fetch p.writer where p.id in :ids")
+    List<PostEntity> findAllWithWriterByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select min(p.id) from PostEntity p")
+    Long findMinId();
+
+    @Query("select max(p.id) from PostEntity p")
+    Long findMaxId();
+
+    @Query("select p.id as id, p.version as version, p.content as content, p.contentExternalized as contentExternalized"
+        + " from PostEntity p where p.id between :fromId and :toId")
+    List<PostIndexView> findIndexViewsByIdBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select p.id as id, p.version as version, p.content as content, p.contentExternalized as contentExternalized"
+        + " from PostEntity p where p.createdAt >= :since")
+    List<PostIndexView> findIndexViewsCreatedSince(@Param("since") long since);
+
+    @Query("select p.id as id, p.version as version, p.content as content, p.contentExternalized as contentExternalized"
+        + " from PostEntity p where p.modifiedAt >= :since")
+    List<PostIndexView> findIndexViewsModifiedSince(@Param("since") long since);
+
+    @EntityGraph(attributePaths = "writer")
+    @Query("select p from PostEntity p"
+        + " where p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.id < :id)"
+        + " order by p.createdAt desc, p.id desc")
+    List<PostEntity> findPageWithWriter(
+        @Param("createdAt") long createdAt,
+        @Param("id") long id,
+        Pageable pageable);
+
+    @EntityGraph(attributePaths = "writer")
+    @Query("select p from PostEntity p"
+        + " where p.writer.id = :writerId"
+        + " and p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.id < :id)"
+        + " order by p.createdAt desc, p.id desc")
+    List<PostEntity> findPageWithWriterByWriterId(
+        @Param("writerId") long writerId,
+        @Param("createdAt") long createdAt,
+        @Param("id") long id,
+        Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from PostEntity p left join fetch p.writer order by p.id")
+    Stream<PostEntity> streamAllWithWriter();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PostEntity p set p.content = :content, p.contentExternalized = :externalized, p.modifiedAt = :modifiedAt, p.version = p.version + 1"
+        + " where p.id = :id")
+    int updateContent(
+        @Param("id") long id,
+        @Param("content") String content,
+        @Param("externalized") boolean externalized,
+        @Param("modifiedAt") long modifiedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PostEntity p set p.content = :content, p.contentExternalized = :externalized, p.modifiedAt = :modifiedAt, p.version = p.version + 1"
+        + " where p.id = :id and p.version = :version")
+    int updateContentIfVersion(
+        @Param("id") long id,
+        @Param("version") long version,
+        @Param("content") String content,
+        @Param("externalized") boolean externalized,
+        @Param("modifiedAt") long modifiedAt);
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.example.demo.repository;
+
+/**
+ * 동시 조회 합치기와 타임라인 캐시에서 여러 스레드가 공유하는 게시글의 불변 복사본입니다.
+ * 작성자도 함께 복사하므로 작성자를 함께 읽어온 엔티티로만 만들 수 있습니다.
+ */
+public record PostSnapshot(
+    Long id,
+    String content,
+    boolean contentExternalized,
+    Long createdAt,
+    Long modifiedAt,
+    UserSnapshot writer,
+    Long version) {
+
+    public static PostSnapshot of(PostEntity postEntity) {
+        return new PostSnapshot(
+            postEntity.getId(),
+            postEntity.getContent(),
+            postEntity.isContentExternalized(),
+            postEntity.getCreatedAt(),
+            postEntity.getModifiedAt(),
+            UserSnapshot.of(postEntity.getWriter()),
+            postEntity.getVersion());
+    }
+
+    /**
+     * 압축된 본문을 풀어서 담은 복사본을 만듭니다. 이 복사본으로 만든 엔티티는 본문을 다시 읽지 않습니다.
+     */
+    public PostSnapshot withContent(String decodedContent) {
+        return new PostSnapshot(id, decodedContent, false, createdAt, modifiedAt, writer, version);
+    }
+
+    public PostEntity toEntity() {
+        PostEntity postEntity = new PostEntity();
+        postEntity.setId(id);
+        postEntity.setContent(content);
+        postEntity.setContentExternalized(contentExternalized);
+        postEntity.setCreatedAt(createdAt);
+        postEntity.setModifiedAt(modifiedAt);
+        postEntity.setWriter(writer.toEntity());
+        postEntity.setVersion(version);
+        return postEntity;
+    }
+}
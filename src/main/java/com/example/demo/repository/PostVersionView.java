@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+public interface PostVersionView {
+
+    Long getPostVersion();
+
+    Long getPostModifiedAt();
+
+    Long getWriterVersion();
+
+    Long getWriterLastLoginAt();
+}
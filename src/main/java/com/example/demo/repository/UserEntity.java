@@ -8,14 +8,20 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "uk_users_email", columnList = "email", unique = true),
+    @Index(name = "idx_users_email_status", columnList = "email, status"),
+    @Index(name = "idx_users_certification_expires_at", columnList = "certification_expires_at")
+})
 public class UserEntity {
 
     @Id
@@ -34,10 +40,17 @@ public class UserEntity {
     @Column(name = "certification_code")
     private String certificationCode;
 
+    @Column(name = "certification_expires_at")
+    private Long certificationExpiresAt;
+
     @Column(name = "status")
     @Enumerated(EnumType.STRING)
     private UserStatus status;
 
     @Column(name = "last_login_at")
     private Long lastLoginAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
 }
\ No newline at end of file
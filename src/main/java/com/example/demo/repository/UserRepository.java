@@ -1,12 +1,74 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.UserStatus;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
+    @Transactional(readOnly = true)
     Optional<UserEntity> findByIdAndStatus(long id, UserStatus userStatus);
 
     Optional<UserEntity> findByEmailAndStatus(String email, UserStatus userStatus);
+
+    List<UserEntity> findAllByIdInAndStatus(Collection<Long> ids, UserStatus userStatus);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select u from UserEntity u order by u.id")
+    Stream<UserEntity> streamAll();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.nickname = :nickname, u.address = :address, u.version = u.version + 1"
+        + " where u.id = :id and u.status = :status")
+    int updateProfile(
+        @Param("id") long id,
+        @Param("status") UserStatus userStatus,
+        @Param("nickname") String nickname,
+        @Param("address") String address);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.nickname = :nickname, u.address = :address, u.version = u.version + 1"
+        + " where u.id = :id and u.status = :status and u.version = :version")
+    int updateProfileIfVersion(
+        @Param("id") long id,
+        @Param("status") UserStatus userStatus,
+        @Param("version") long version,
+        @Param("nickname") String nickname,
+        @Param("address") String address);
+
+    /**
+     * 인증 대기중이고 코드가 같으며 만료되지 않은 경우에만 활성화하고 인증 코드를 지웁니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.status = :activeStatus, u.certificationCode = null, u.certificationExpiresAt = null,"
+        + " u.version = u.version + 1"
+        + " where u.id = :id and u.status = :pendingStatus and u.certificationCode = :certificationCode"
+        + " and u.certificationExpiresAt > :now")
+    int activateIfCertified(
+        @Param("id") long id,
+        @Param("pendingStatus") UserStatus pendingStatus,
+        @Param("activeStatus") UserStatus activeStatus,
+        @Param("certificationCode") String certificationCode,
+        @Param("now") long now);
+
+    @Query("select u.status from UserEntity u where u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") long id);
+
+    @Query("select u.email from UserEntity u where u.id = :id")
+    Optional<String> findEmailById(@Param("id") long id);
+
+    @Modifying
+    @Query("update UserEntity u set u.certificationCode = null, u.certificationExpiresAt = null, u.version = u.version + 1"
+        + " where u.status = :status and u.certificationExpiresAt <= :now")
+    int clearExpiredCertificationCodes(@Param("status") UserStatus status, @Param("now") long now);
 }
@@ -0,0 +1,46 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.UserStatus;
+
+/**
+ * 캐시와 동시 조회 합치기에서 여러 스레드가 공유하는 유저의 불변 복사본입니다.
+ * 호출자에게는 {@link #toEntity()} 로 매번 새 엔티티를 만들어 돌려주므로 공유된 상태가 바뀌지 않습니다.
+ */
+public record UserSnapshot(
+    Long id,
+    String email,
+    String nickname,
+    String address,
+    String certificationCode,
+    Long certificationExpiresAt,
+    UserStatus status,
+    Long lastLoginAt,
+    Long version) {
+
+    public static UserSnapshot of(UserEntity userEntity) {
+        return new UserSnapshot(
+            userEntity.getId(),
+            userEntity.getEmail(),
+            userEntity.getNickname(),
+            userEntity.getAddress(),
+            userEntity.getCertificationCode(),
+            userEntity.getCertificationExpiresAt(),
+            userEntity.getStatus(),
+            userEntity.getLastLoginAt(),
+            userEntity.getVersion());
+    }
+
+    public UserEntity toEntity() {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setId(id);
+        userEntity.setEmail(email);
+        userEntity.setNickname(nickname);
+        userEntity.setAddress(address);
+        userEntity.setCertificationCode(certificationCode);
+        userEntity.setCertificationExpiresAt(certificationExpiresAt);
+        userEntity.setStatus(status);
+        userEntity.setLastLoginAt(lastLoginAt);
+        userEntity.setVersion(version);
+        return userEntity;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.service;
+
+import com.example.demo.model.UserStatus;
+import com.example.demo.repository.UserRepository;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 만료된 인증 코드를 주기적으로 지웁니다. 활성화된 유저의 코드는 인증할 때 이미 지워집니다.
+ * 코드가 지워진 PENDING 유저가 다시 가입하면 새 코드를 발급합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CertificationCodePurger {
+
+    private final UserRepository userRepository;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${user.certification.purge-interval-ms:600000}",
+        initialDelayString = "${user.certification.purge-interval-ms:600000}")
+    public int purge() {
+        int purged = userRepository.clearExpiredCertificationCodes(UserStatus.PENDING, Clock.systemUTC().millis());
+        if (purged > 0) {
+            log.info("Cleared {} expired certification codes", purged);
+        }
+        return purged;
+    }
+}
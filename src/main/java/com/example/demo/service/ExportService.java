@@ -0,0 +1,68 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostEntity;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.UserEntity;
+import com.example.demo.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 테이블 전체를 커서로 읽으면서 한 행씩 넘겨줍니다.
+ * 일정 개수마다 영속성 컨텍스트를 비워서 테이블 크기와 상관없이 메모리 사용량을 일정하게 유지합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserEntity> consumer) {
+        try (Stream<UserEntity> userEntities = userRepository.streamAll()) {
+            forEachClearing(userEntities, consumer);
+        }
+    }
+
+    /**
+     * 게시글을 CLEAR_INTERVAL 개씩 묶어서 넘겨줍니다. 압축된 본문을 묶음마다 한 번의 쿼리로 읽을 수 있게 합니다.
+     */
+    @Transactional(readOnly = true)
+    public void exportPosts(Consumer<List<PostEntity>> consumer) {
+        try (Stream<PostEntity> postEntities = postRepository.streamAllWithWriter()) {
+            Iterator<PostEntity> iterator = postEntities.iterator();
+            List<PostEntity> chunk = new ArrayList<>(CLEAR_INTERVAL);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CLEAR_INTERVAL || !iterator.hasNext()) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(CLEAR_INTERVAL);
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private <T> void forEachClearing(Stream<T> entities, Consumer<T> consumer) {
+        Iterator<T> iterator = entities.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            consumer.accept(iterator.next());
+            if (++count % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        }
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * id 목록을 잘라서 IN 쿼리를 여러 번 실행합니다.
+ * hibernate.query.in_clause_parameter_padding 이 파라미터 수를 2의 거듭제곱으로 맞추므로 조각 크기도 2의 거듭제곱으로 둡니다.
+ */
+final class InClauseChunks {
+
+    static final int CHUNK_SIZE = 64;
+
+    private InClauseChunks() {
+    }
+
+    static <T> List<T> load(Collection<Long> ids, Function<List<Long>, List<T>> loader) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinctIds.size() <= CHUNK_SIZE) {
+            return distinctIds.isEmpty() ? List.of() : loader.apply(distinctIds);
+        }
+        List<T> loaded = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            loaded.addAll(loader.apply(distinctIds.subList(from, Math.min(distinctIds.size(), from + CHUNK_SIZE))));
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시각을 메모리에 모아두었다가 주기적으로 한 번의 batch UPDATE 로 반영합니다.
+ * DB 에 반영되기까지의 지연은 user.login.flush-interval-ms 를 넘지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginTimestampWriteBehind {
+
+    private static final String UPDATE_LAST_LOGIN_AT =
+        "update users set last_login_at = ? where id = ? and (last_login_at is null or last_login_at < ?)";
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+
+    public void record(long userId, long loginAt) {
+        pending.merge(userId, loginAt, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${user.login.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> batch = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            Long loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(new Object[]{loginAt, userId, loginAt});
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_AT, batch);
+        } catch (DataAccessException exception) {
+            batch.forEach(args -> record((Long) args[1], (Long) args[0]));
+            throw exception;
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import com.example.demo.model.MailOutboxStatus;
+import com.example.demo.repository.MailOutboxEntity;
+import com.example.demo.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * mail_outbox 에 쌓인 메일을 백그라운드에서 배치 단위로 발송합니다.
+ * 한 배치는 {@link JavaMailSender#send(SimpleMailMessage...)} 한 번으로 보내지므로 SMTP 연결 하나를 재사용합니다.
+ * 배치는 짧은 트랜잭션에서 SENDING 으로 바꿔 가져가고, SMTP 발송은 트랜잭션 밖에서, 결과는 다시 짧은 트랜잭션에서 남깁니다.
+ * 결과를 남기지 못하고 죽은 배치는 mail.outbox.claim-timeout-ms 가 지나면 다시 가져가므로, 메일은 적어도 한 번 발송됩니다.
+ */
+@Slf4j
+@Service
+public class MailOutboxDispatcher {
+
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final long PENDING_COUNT_REFRESH_MILLIS = 10_000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long claimTimeoutMillis;
+    private final Timer dispatchTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private volatile long pendingCountedAt = Long.MIN_VALUE;
+
+    public MailOutboxDispatcher(
+        MailOutboxRepository mailOutboxRepository,
+        JavaMailSender mailSender,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${mail.outbox.batch-size:50}") int batchSize,
+        @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+        @Value("${mail.outbox.backoff-ms:1000}") long backoffMillis,
+        @Value("${mail.outbox.claim-timeout-ms:300000}") long claimTimeoutMillis) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+        this.dispatchTimer = Timer.builder("mail.outbox.dispatch")
+            .description("Time spent sending one outbox batch over SMTP")
+            .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed").register(meterRegistry);
+        // 스크레이프마다 COUNT 를 실행하지 않도록 dispatch 가 주기적으로 센 값을 보여줍니다.
+        Gauge.builder("mail.outbox.pending", pendingCount, AtomicLong::get)
+            .description("Number of mails waiting to be dispatched")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.dispatch-interval-ms:1000}", initialDelayString = "${mail.outbox.initial-delay-ms:1000}")
+    public void dispatch() {
+        long now = Clock.systemUTC().millis();
+        String claimToken = UUID.randomUUID().toString();
+        List<MailOutboxEntity> batch = claim(claimToken, now);
+        if (!batch.isEmpty()) {
+            SimpleMailMessage[] messages = batch.stream()
+                .map(this::toMessage)
+                .toArray(SimpleMailMessage[]::new);
+            Map<Object, Exception> failedMessages = dispatchTimer.record(() -> send(messages));
+            transactionTemplate.executeWithoutResult(status -> record(batch, messages, failedMessages, claimToken, now));
+        }
+        refreshPendingCount(now, !batch.isEmpty());
+    }
+
+    private List<MailOutboxEntity> claim(String claimToken, long now) {
+        long staleBefore = now - claimTimeoutMillis;
+        List<Long> ids = mailOutboxRepository.findClaimableIds(
+            MailOutboxStatus.PENDING, MailOutboxStatus.SENDING, now, staleBefore, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 같은 id 를 두고 경쟁한 다른 인스턴스가 먼저 바꿨다면 조건에 맞지 않아 이 인스턴스는 가져가지 못합니다.
+        int claimed = mailOutboxRepository.claim(
+            ids, MailOutboxStatus.PENDING, MailOutboxStatus.SENDING, claimToken, now, staleBefore);
+        return claimed == 0 ? List.of() : mailOutboxRepository.findByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    private void record(
+        List<MailOutboxEntity> batch,
+        SimpleMailMessage[] messages,
+        Map<Object, Exception> failedMessages,
+        String claimToken,
+        long now) {
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutboxEntity mail = batch.get(i);
+            Exception failure = failedMessages.get(messages[i]);
+            if (failure == null) {
+                sentIds.add(mail.getId());
+            } else {
+                markFailed(mail, claimToken, now, failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, claimToken, MailOutboxStatus.SENT, now);
+            sentCounter.increment(sentIds.size());
+        }
+    }
+
+    private void refreshPendingCount(long now, boolean dispatched) {
+        if (dispatched || now - pendingCountedAt >= PENDING_COUNT_REFRESH_MILLIS) {
+            pendingCount.set(mailOutboxRepository.countByStatusIn(List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING)));
+            pendingCountedAt = now;
+        }
+    }
+
+    private Map<Object, Exception> send(SimpleMailMessage[] messages) {
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException exception) {
+            if (!exception.getFailedMessages().isEmpty()) {
+                return exception.getFailedMessages();
+            }
+            return allFailed(messages, exception);
+        } catch (MailException exception) {
+            return allFailed(messages, exception);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception exception) {
+        return Stream.of(messages).collect(Collectors.toMap(Function.identity(), message -> exception, (a, b) -> a));
+    }
+
+    private void markFailed(MailOutboxEntity mail, String claimToken, long now, Exception failure) {
+        int attempts = mail.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            mailOutboxRepository.markFailed(mail.getId(), claimToken, MailOutboxStatus.FAILED, attempts, now);
+            failedCounter.increment();
+            log.warn("Giving up on outbox mail {} after {} attempts", mail.getId(), attempts, failure);
+            return;
+        }
+        long nextAttemptAt = now + (backoffMillis << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        mailOutboxRepository.markFailed(mail.getId(), claimToken, MailOutboxStatus.PENDING, attempts, nextAttemptAt);
+    }
+
+    private SimpleMailMessage toMessage(MailOutboxEntity mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getBody());
+        return message;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import com.example.demo.model.MailOutboxStatus;
+import com.example.demo.repository.MailOutboxEntity;
+import com.example.demo.repository.MailOutboxRepository;
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아직 발송되지 않은(PENDING, SENDING) 메일 중 가장 오래된 메일이 mail.outbox.health.max-pending-age-ms 보다 오래되면 DOWN 으로 봅니다.
+ */
+@Component
+public class MailOutboxHealthIndicator implements HealthIndicator {
+
+    private static final List<MailOutboxStatus> UNSENT = List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final long maxPendingAgeMillis;
+
+    public MailOutboxHealthIndicator(
+        MailOutboxRepository mailOutboxRepository,
+        @Value("${mail.outbox.health.max-pending-age-ms:600000}") long maxPendingAgeMillis) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.maxPendingAgeMillis = maxPendingAgeMillis;
+    }
+
+    @Override
+    public Health health() {
+        Optional<MailOutboxEntity> oldest = mailOutboxRepository.findFirstByStatusInOrderByIdAsc(UNSENT);
+        if (oldest.isEmpty()) {
+            return Health.up().withDetail("pending", 0).build();
+        }
+        long pendingAgeMillis = Clock.systemUTC().millis() - oldest.get().getCreatedAt();
+        Health.Builder builder = pendingAgeMillis > maxPendingAgeMillis ? Health.down() : Health.up();
+        return builder
+            .withDetail("pending", mailOutboxRepository.countByStatusIn(UNSENT))
+            .withDetail("oldestPendingAgeMs", pendingAgeMillis)
+            .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.PostContentEntity;
+import com.example.demo.repository.PostContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 본문 저장소입니다.
+ * 임계값 이하의 본문은 posts.content 에 그대로 두고, 더 긴 본문은 Deflate 로 압축해서 post_contents 에 저장합니다.
+ */
+@Service
+public class PostContentStorage {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final PostContentRepository postContentRepository;
+    private final int inlineThreshold;
+    private final Counter externalizedCounter;
+    private final Counter bytesSavedCounter;
+
+    public PostContentStorage(
+        PostContentRepository postContentRepository,
+        MeterRegistry meterRegistry,
+        @Value("${post.content.inline-threshold:255}") int inlineThreshold) {
+        this.postContentRepository = postContentRepository;
+        this.inlineThreshold = inlineThreshold;
+        this.externalizedCounter = Counter.builder("post.content.externalized")
+            .description("Number of post bodies stored compressed outside the posts table")
+            .register(meterRegistry);
+        this.bytesSavedCounter = Counter.builder("post.content.bytes.saved")
+            .baseUnit("bytes")
+            .description("Bytes saved by compressing externalized post bodies")
+            .register(meterRegistry);
+    }
+
+    public Encoded encode(String content) {
+        if (content == null) {
+            return new Encoded(null, null, 0);
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length <= inlineThreshold) {
+            return new Encoded(content, null, raw.length);
+        }
+        return new Encoded(null, deflate(raw), raw.length);
+    }
+
+    /**
+     * 새 게시글의 본문을 저장합니다. 인라인 본문이면 아무것도 하지 않습니다.
+     */
+    public void store(long postId, Encoded encoded) {
+        if (!encoded.externalized()) {
+            return;
+        }
+        PostContentEntity postContentEntity = new PostContentEntity();
+        postContentEntity.setPostId(postId);
+        postContentEntity.setData(encoded.compressed());
+        postContentEntity.setOriginalLength(encoded.originalLength());
+        postContentRepository.save(postContentEntity);
+        externalizedCounter.increment();
+        bytesSavedCounter.increment(Math.max(0, encoded.originalLength() - encoded.compressed().length));
+    }
+
+    /**
+     * 수정된 게시글의 본문을 저장합니다. 이전에 저장된 압축 본문은 지웁니다.
+     */
+    public void replace(long postId, Encoded encoded) {
+        postContentRepository.deleteByPostId(postId);
+        store(postId, encoded);
+    }
+
+    public String read(long postId) {
+        PostContentEntity postContentEntity = postContentRepository.findById(postId)
+            .orElseThrow(() -> new ResourceNotFoundException("PostContents", postId));
+        return decode(postContentEntity);
+    }
+
+    /**
+     * 여러 게시글의 압축 본문을 IN 쿼리로 한 번에 읽어옵니다. 찾지 못한 id 는 결과에 없습니다.
+     */
+    public Map<Long, String> readAll(Collection<Long> postIds) {
+        Map<Long, String> contents = new HashMap<>();
+        for (PostContentEntity postContentEntity : InClauseChunks.load(postIds, postContentRepository::findAllById)) {
+            contents.put(postContentEntity.getPostId(), decode(postContentEntity));
+        }
+        return contents;
+    }
+
+    private static String decode(PostContentEntity postContentEntity) {
+        byte[] raw = inflate(postContentEntity.getData(), postContentEntity.getOriginalLength());
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength) {
+                int length = inflater.inflate(raw, offset, originalLength - offset);
+                if (length == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated post content");
+                }
+                offset += length;
+            }
+            return raw;
+        } catch (DataFormatException exception) {
+            throw new IllegalStateException("Corrupted post content", exception);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * compressed 가 null 이면 inline 에 담긴 본문을 posts.content 에 그대로 저장합니다.
+     */
+    public record Encoded(String inline, byte[] compressed, int originalLength) {
+
+        public boolean externalized() {
+            return compressed != null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글을 수정할 때 다시 읽지 않고 응답을 만들 수 있도록 마지막으로 본 게시글의 작성자, 작성 시각, 버전을 기억합니다.
+ * 작성자와 작성 시각은 바뀌지 않고, 버전은 조건부 UPDATE 의 기준으로만 쓰므로 다른 인스턴스가 먼저 수정해 값이 낡았으면 UPDATE 가 실패해 다시 읽게 됩니다.
+ */
+@Component
+public class PostHeadCache {
+
+    private final Cache<Long, Head> heads;
+
+    public PostHeadCache(
+        MeterRegistry meterRegistry,
+        @Value("${post.head-cache.max-posts:100000}") long maxPosts,
+        @Value("${post.head-cache.ttl-ms:600000}") long ttlMillis) {
+        this.heads = Caffeine.newBuilder()
+            .maximumSize(maxPosts)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, heads, "postHeads");
+    }
+
+    public Head get(long postId) {
+        return heads.getIfPresent(postId);
+    }
+
+    /**
+     * 커밋된 값만 기억하도록 트랜잭션 안에서는 커밋된 뒤에 넣습니다.
+     */
+    public void putAfterCommit(long postId, Head head) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            heads.put(postId, head);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                heads.put(postId, head);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        heads.invalidateAll();
+    }
+
+    public record Head(long writerId, long createdAt, long version, boolean contentExternalized) {
+    }
+}
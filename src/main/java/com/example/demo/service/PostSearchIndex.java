@@ -0,0 +1,183 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 본문에 대한 메모리 역색인입니다.
+ * 색인 단위는 소문자로 바꾼 글자/숫자 연속 구간이고, 점수는 (1 + log tf) * log(1 + N / df) 의 합입니다.
+ * 같은 게시글에 대해서는 버전이 더 낮은 색인 요청을 무시하므로 재색인과 실시간 반영이 겹쳐도 오래된 본문이 덮어쓰지 않습니다.
+ */
+public class PostSearchIndex {
+
+    private static final int SEGMENT_MAGIC = 0x50534958;
+    private static final int SEGMENT_VERSION = 1;
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, IndexedPost> posts = new ConcurrentHashMap<>();
+
+    public void index(long postId, long version, String content) {
+        put(postId, version, tokenize(content));
+    }
+
+    public Hits search(String query, int offset, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        int postCount = posts.size();
+        for (String term : tokenize(query).keySet()) {
+            ConcurrentHashMap<Long, Integer> postIds = postings.get(term);
+            if (postIds == null || postIds.isEmpty()) {
+                continue;
+            }
+            double idf = Math.log(1 + (double) postCount / postIds.size());
+            postIds.forEach((postId, frequency) -> scores.merge(postId, (1 + Math.log(frequency)) * idf, Double::sum));
+        }
+        List<Long> postIds = scores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+            .skip(offset)
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+        return new Hits(postIds, scores.size());
+    }
+
+    public int size() {
+        return posts.size();
+    }
+
+    /**
+     * 현재 색인을 하나의 세그먼트 파일로 씁니다. 크기를 먼저 계산해서 파일 전체를 메모리 매핑한 뒤 채웁니다.
+     */
+    public void writeSegment(Path path, long snapshotAt) throws IOException {
+        List<Map.Entry<Long, IndexedPost>> entries = new ArrayList<>(posts.entrySet());
+        List<byte[][]> encodedTerms = new ArrayList<>(entries.size());
+        List<int[]> frequencies = new ArrayList<>(entries.size());
+        long size = Integer.BYTES * 3L + Long.BYTES;
+        for (Map.Entry<Long, IndexedPost> entry : entries) {
+            Map<String, Integer> termFrequencies = entry.getValue().termFrequencies();
+            byte[][] terms = new byte[termFrequencies.size()][];
+            int[] termFrequencyValues = new int[termFrequencies.size()];
+            int i = 0;
+            size += Long.BYTES * 2L + Integer.BYTES;
+            for (Map.Entry<String, Integer> termFrequency : termFrequencies.entrySet()) {
+                terms[i] = termFrequency.getKey().getBytes(StandardCharsets.UTF_8);
+                termFrequencyValues[i] = termFrequency.getValue();
+                size += Short.BYTES + terms[i].length + Integer.BYTES;
+                i++;
+            }
+            encodedTerms.add(terms);
+            frequencies.add(termFrequencyValues);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Search index segment is too large to map: " + size + " bytes");
+        }
+
+        try (FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(SEGMENT_MAGIC);
+            buffer.putInt(SEGMENT_VERSION);
+            buffer.putLong(snapshotAt);
+            buffer.putInt(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                byte[][] terms = encodedTerms.get(i);
+                int[] termFrequencyValues = frequencies.get(i);
+                buffer.putLong(entries.get(i).getKey());
+                buffer.putLong(entries.get(i).getValue().version());
+                buffer.putInt(terms.length);
+                for (int j = 0; j < terms.length; j++) {
+                    buffer.putShort((short) terms[j].length);
+                    buffer.put(terms[j]);
+                    buffer.putInt(termFrequencyValues[j]);
+                }
+            }
+            buffer.force();
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 읽어 색인에 더하고, 세그먼트를 쓴 시각을 반환합니다.
+     */
+    public long readSegment(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SEGMENT_MAGIC || buffer.getInt() != SEGMENT_VERSION) {
+                throw new IOException("Unsupported search index segment: " + path);
+            }
+            long snapshotAt = buffer.getLong();
+            int postCount = buffer.getInt();
+            for (int i = 0; i < postCount; i++) {
+                long postId = buffer.getLong();
+                long version = buffer.getLong();
+                int termCount = buffer.getInt();
+                Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    byte[] term = new byte[buffer.getShort()];
+                    buffer.get(term);
+                    termFrequencies.put(new String(term, StandardCharsets.UTF_8), buffer.getInt());
+                }
+                put(postId, version, termFrequencies);
+            }
+            return snapshotAt;
+        } catch (RuntimeException exception) {
+            throw new IOException("Corrupted search index segment: " + path, exception);
+        }
+    }
+
+    private void put(long postId, long version, Map<String, Integer> termFrequencies) {
+        posts.compute(postId, (id, previous) -> {
+            if (previous != null && previous.version() > version) {
+                return previous;
+            }
+            if (previous != null) {
+                previous.termFrequencies().keySet().forEach(term -> {
+                    ConcurrentHashMap<Long, Integer> postIds = postings.get(term);
+                    if (postIds != null) {
+                        postIds.remove(id);
+                    }
+                });
+            }
+            termFrequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(id, frequency));
+            return new IndexedPost(version, termFrequencies);
+        });
+    }
+
+    static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        if (text == null) {
+            return termFrequencies;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                if (i - start <= MAX_TERM_LENGTH) {
+                    termFrequencies.merge(text.substring(start, i).toLowerCase(Locale.ROOT), 1, Integer::sum);
+                }
+                start = -1;
+            }
+        }
+        return termFrequencies;
+    }
+
+    public record Hits(List<Long> postIds, int total) {
+    }
+
+    private record IndexedPost(long version, Map<String, Integer> termFrequencies) {
+    }
+}
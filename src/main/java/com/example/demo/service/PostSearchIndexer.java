@@ -0,0 +1,284 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostIndexView;
+import com.example.demo.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link PostSearchIndex} 를 유지합니다.
+ * 게시글 작성/수정은 커밋된 뒤에 색인에 반영하고, search.index.directory 가 있으면 주기적으로 세그먼트 파일로 저장합니다.
+ * 기동할 때는 마지막 세그먼트를 읽고 그 이후 바뀐 게시글만 다시 색인하며, 세그먼트가 없으면 id 구간을 나눠 병렬로 전체를 색인합니다.
+ * 색인은 인스턴스마다 따로 가지므로, 다른 인스턴스가 쓴 게시글은 search.index.catch-up-interval-ms 마다 바뀐 게시글을 다시 읽어 반영합니다.
+ * search.index.load-async=true 면 기동 시 색인을 별도 스레드에서 채우고, 다 채울 때까지 {@link #isLoaded()} 가 false 입니다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndexer {
+
+    private static final long REBUILD_CHUNK_SIZE = 5000;
+    private static final long CATCH_UP_MARGIN_MILLIS = 60_000;
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("posts-(\\d+)\\.seg");
+
+    private final PostSearchIndex index = new PostSearchIndex();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile long caughtUpTo = -1;
+    private final PostRepository postRepository;
+    private final PostContentStorage postContentStorage;
+    private final Path directory;
+    private final int rebuildThreads;
+    private final boolean rebuildOnStartup;
+    private final boolean loadAsync;
+
+    public PostSearchIndexer(
+        PostRepository postRepository,
+        PostContentStorage postContentStorage,
+        MeterRegistry meterRegistry,
+        @Value("${search.index.directory:}") String directory,
+        @Value("${search.index.rebuild-threads:0}") int rebuildThreads,
+        @Value("${search.index.rebuild-on-startup:true}") boolean rebuildOnStartup,
+        @Value("${search.index.load-async:false}") boolean loadAsync) {
+        this.postRepository = postRepository;
+        this.postContentStorage = postContentStorage;
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.loadAsync = loadAsync;
+        Gauge.builder("post.search.documents", index, PostSearchIndex::size)
+            .description("Number of posts in the search index")
+            .register(meterRegistry);
+    }
+
+    public PostSearchIndex.Hits search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 색인합니다.
+     */
+    public void indexAfterCommit(long postId, long version, String content) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(postId, version, content);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(postId, version, content);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!loadAsync) {
+            load();
+            return;
+        }
+        Thread.ofPlatform().name("search-index-loader").daemon().start(() -> {
+            try {
+                load();
+            } catch (RuntimeException exception) {
+                log.error("Failed to load the search index, readiness stays down", exception);
+            }
+        });
+    }
+
+    /**
+     * 기동 시 색인을 다 채웠으면 true 입니다.
+     */
+    public boolean isLoaded() {
+        return caughtUpTo >= 0;
+    }
+
+    private void load() {
+        long startedAt = Clock.systemUTC().millis();
+        if (rebuildOnStartup) {
+            long snapshotAt = loadLatestSegment();
+            if (snapshotAt < 0) {
+                rebuild();
+            } else {
+                catchUp(snapshotAt - CATCH_UP_MARGIN_MILLIS);
+            }
+        }
+        caughtUpTo = startedAt;
+    }
+
+    /**
+     * 마지막으로 따라잡은 시각 이후에 작성/수정된 게시글을 다시 색인합니다.
+     * 커밋이 늦은 트랜잭션과 인스턴스 간 시계 차이를 고려해 CATCH_UP_MARGIN_MILLIS 만큼 앞에서부터 읽고, 이미 색인한 버전은 색인이 걸러냅니다.
+     */
+    @Scheduled(fixedDelayString = "${search.index.catch-up-interval-ms:10000}",
+        initialDelayString = "${search.index.catch-up-interval-ms:10000}")
+    public int catchUpChanges() {
+        long since = caughtUpTo;
+        if (since < 0) {
+            return 0;
+        }
+        long startedAt = Clock.systemUTC().millis();
+        List<PostIndexView> changed = findChangedSince(since - CATCH_UP_MARGIN_MILLIS);
+        indexAll(changed);
+        if (!changed.isEmpty()) {
+            dirty.set(true);
+        }
+        caughtUpTo = startedAt;
+        return changed.size();
+    }
+
+    public void rebuild() {
+        Long minId = postRepository.findMinId();
+        Long maxId = postRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long fromId = minId; fromId <= maxId; fromId += REBUILD_CHUNK_SIZE) {
+                long toId = Math.min(maxId, fromId + REBUILD_CHUNK_SIZE - 1);
+                long chunkFromId = fromId;
+                chunks.add(executor.submit(() -> indexAll(postRepository.findIndexViewsByIdBetween(chunkFromId, toId))));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the search index", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Failed to rebuild the search index", exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        dirty.set(true);
+        log.info("Indexed {} posts in {} ms", index.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void catchUp(long since) {
+        List<PostIndexView> changed = findChangedSince(since);
+        indexAll(changed);
+        dirty.set(true);
+        log.info("Loaded {} posts from the search index segment and re-indexed {} changed posts", index.size(), changed.size());
+    }
+
+    /**
+     * created_at 과 modified_at 을 OR 로 묶으면 인덱스를 쓰지 못하므로, 각각의 인덱스로 따로 읽어 id 기준으로 합칩니다.
+     */
+    private List<PostIndexView> findChangedSince(long since) {
+        Map<Long, PostIndexView> changed = new LinkedHashMap<>();
+        for (PostIndexView post : postRepository.findIndexViewsCreatedSince(since)) {
+            changed.put(post.getId(), post);
+        }
+        for (PostIndexView post : postRepository.findIndexViewsModifiedSince(since)) {
+            changed.merge(post.getId(), post, (previous, current) -> current.getVersion() > previous.getVersion() ? current : previous);
+        }
+        return new ArrayList<>(changed.values());
+    }
+
+    /**
+     * 압축된 본문은 게시글마다 읽지 않고 목록 단위로 한 번에 읽어옵니다.
+     */
+    private void indexAll(List<PostIndexView> posts) {
+        List<Long> externalizedIds = posts.stream()
+            .filter(post -> Boolean.TRUE.equals(post.getContentExternalized()))
+            .map(PostIndexView::getId)
+            .toList();
+        Map<Long, String> contents = externalizedIds.isEmpty() ? Map.of() : postContentStorage.readAll(externalizedIds);
+        for (PostIndexView post : posts) {
+            String content = Boolean.TRUE.equals(post.getContentExternalized())
+                ? contents.get(post.getId())
+                : post.getContent();
+            if (content == null) {
+                log.warn("Skipped indexing post {} because its externalized content was not found", post.getId());
+                continue;
+            }
+            index.index(post.getId(), post.getVersion(), content);
+        }
+    }
+
+    private void index(long postId, long version, String content) {
+        index.index(postId, version, content);
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.snapshot-interval-ms:60000}",
+        initialDelayString = "${search.index.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (directory == null || !dirty.getAndSet(false)) {
+            return;
+        }
+        long snapshotAt = Clock.systemUTC().millis();
+        try {
+            Files.createDirectories(directory);
+            Path temporary = directory.resolve("posts-" + snapshotAt + ".tmp");
+            Path segment = directory.resolve("posts-" + snapshotAt + ".seg");
+            index.writeSegment(temporary, snapshotAt);
+            Files.move(temporary, segment, StandardCopyOption.ATOMIC_MOVE);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(file -> !file.equals(segment) && segmentTimestamp(file) >= 0).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException exception) {
+            dirty.set(true);
+            log.warn("Failed to write the search index segment to {}", directory, exception);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+    }
+
+    private long loadLatestSegment() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return -1;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            Optional<Path> latest = files
+                .filter(file -> segmentTimestamp(file) >= 0)
+                .max(Comparator.comparingLong(PostSearchIndexer::segmentTimestamp));
+            if (latest.isEmpty()) {
+                return -1;
+            }
+            return index.readSegment(latest.get());
+        } catch (IOException exception) {
+            log.warn("Failed to load the search index segment from {}, rebuilding from the posts table", directory, exception);
+            return -1;
+        }
+    }
+
+    private static long segmentTimestamp(Path file) {
+        Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostEntity;
+import java.util.List;
+
+/**
+ * 검색 점수 순으로 정렬된 한 페이지의 게시글과 전체 검색 결과 수입니다.
+ */
+public record PostSearchResult(List<PostEntity> posts, int total) {
+}
@@ -1,14 +1,30 @@
 package com.example.demo.service;
 
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.VersionConflictException;
+import com.example.demo.model.PostCursor;
 import com.example.demo.model.dto.PostCreateDto;
 import com.example.demo.model.dto.PostUpdateDto;
 import com.example.demo.repository.PostEntity;
 import com.example.demo.repository.PostRepository;
+import com.example.demo.repository.PostSnapshot;
+import com.example.demo.repository.PostVersionView;
 import com.example.demo.repository.UserEntity;
+import io.micrometer.core.annotation.Timed;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -16,24 +32,240 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserService userService;
+    private final PostContentStorage postContentStorage;
+    private final PostSearchIndexer postSearchIndexer;
+    private final PostTimelineCache postTimelineCache;
+    private final PostHeadCache postHeadCache;
+    private final SingleFlight<Long, PostSnapshot> postSingleFlight;
 
+    /**
+     * 트랜잭션 밖에서 같은 게시글을 동시에 조회하면 한 번의 조회 결과를 불변 스냅샷으로 함께 받고, 각자 새 엔티티로 만들어 반환합니다.
+     * 트랜잭션 안(수정 경로)에서는 그 트랜잭션이 쓴 값을 봐야 하므로 합치지 않고 바로 조회합니다.
+     */
+    @Timed("post.service")
     public PostEntity getById(long id) {
-        return postRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Posts", id));
+        PostEntity postEntity = TransactionSynchronizationManager.isActualTransactionActive()
+            ? loadById(id)
+            : postSingleFlight.execute(id, () -> PostSnapshot.of(loadById(id))).toEntity();
+        postHeadCache.putAfterCommit(id, headOf(postEntity));
+        return postEntity;
     }
 
+    @Transactional(readOnly = true)
+    @Timed("post.service")
+    public PostVersionView getVersions(long id) {
+        return postRepository.findVersionsById(id).orElseThrow(() -> new ResourceNotFoundException("Posts", id));
+    }
+
+    /**
+     * 게시글과 작성자를 IN 쿼리로 한 번에 가져옵니다. 찾지 못한 id 는 결과에 없습니다.
+     */
+    @Transactional(readOnly = true)
+    @Timed("post.service")
+    public Map<Long, PostEntity> findAllByIds(Collection<Long> ids) {
+        return InClauseChunks.load(ids, postRepository::findAllWithWriterByIdIn).stream()
+            .collect(Collectors.toMap(PostEntity::getId, Function.identity()));
+    }
+
+    /**
+     * post_contents 에 압축되어 저장된 본문을 읽어옵니다.
+     */
+    @Transactional(readOnly = true)
+    @Timed("post.service")
+    public String getContent(long id) {
+        return postContentStorage.read(id);
+    }
+
+    /**
+     * 여러 게시글의 압축된 본문을 한 번의 IN 쿼리로 읽어옵니다.
+     */
+    @Transactional(readOnly = true)
+    @Timed("post.service")
+    public Map<Long, String> getContents(Collection<Long> ids) {
+        return postContentStorage.readAll(ids);
+    }
+
+    @Transactional(readOnly = true)
+    @Timed("post.service")
+    public List<PostEntity> getPage(PostCursor cursor, Long writerId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (writerId == null) {
+            return postRepository.findPageWithWriter(cursor.createdAt(), cursor.id(), pageRequest);
+        }
+        return postRepository.findPageWithWriterByWriterId(writerId, cursor.createdAt(), cursor.id(), pageRequest);
+    }
+
+    /**
+     * 작성자의 최신 게시글을 타임라인 캐시에서 가져옵니다. 캐시에 없으면 posts(user_id, created_at, id) 인덱스로 읽어 채웁니다.
+     */
+    @Transactional(readOnly = true)
+    @Timed("post.service")
+    public List<PostEntity> getTimeline(long writerId, int limit) {
+        return postTimelineCache.get(writerId, Math.min(limit, postTimelineCache.getPostsPerWriter()), this::loadTimeline).stream()
+            .map(PostSnapshot::toEntity)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    @Timed("post.search")
+    public PostSearchResult search(String query, int page, int size) {
+        PostSearchIndex.Hits hits = postSearchIndexer.search(query, (int) Math.min(Integer.MAX_VALUE, (long) page * size), size);
+        if (hits.postIds().isEmpty()) {
+            return new PostSearchResult(List.of(), hits.total());
+        }
+        Map<Long, PostEntity> postEntities = postRepository.findAllWithWriterByIdIn(hits.postIds()).stream()
+            .collect(Collectors.toMap(PostEntity::getId, Function.identity()));
+        List<PostEntity> rankedPostEntities = hits.postIds().stream()
+            .map(postEntities::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new PostSearchResult(rankedPostEntities, hits.total());
+    }
+
+    @Transactional
+    @Timed("post.service")
     public PostEntity create(PostCreateDto postCreateDto) {
         UserEntity userEntity = userService.getById(postCreateDto.getWriterId());
+        PostContentStorage.Encoded content = postContentStorage.encode(postCreateDto.getContent());
         PostEntity postEntity = new PostEntity();
         postEntity.setWriter(userEntity);
-        postEntity.setContent(postCreateDto.getContent());
+        postEntity.setContent(content.inline());
+        postEntity.setContentExternalized(content.externalized());
         postEntity.setCreatedAt(Clock.systemUTC().millis());
-        return postRepository.save(postEntity);
+        postRepository.save(postEntity);
+        postContentStorage.store(postEntity.getId(), content);
+        postHeadCache.putAfterCommit(postEntity.getId(), headOf(postEntity));
+        postSearchIndexer.indexAfterCommit(postEntity.getId(), postEntity.getVersion(), postCreateDto.getContent());
+        postTimelineCache.pushAfterCommit(PostSnapshot.of(postEntity).withContent(postCreateDto.getContent()));
+        return postEntity;
+    }
+
+    /**
+     * 작성자를 한 번에 조회한 뒤 JDBC batch insert 로 저장합니다.
+     * 반환 목록은 입력 순서를 따르며, 작성자를 찾을 수 없는 항목은 null 입니다.
+     */
+    @Transactional
+    @Timed("post.service")
+    public List<PostEntity> createAll(List<PostCreateDto> postCreateDtos) {
+        Set<Long> writerIds = postCreateDtos.stream()
+            .map(PostCreateDto::getWriterId)
+            .collect(Collectors.toSet());
+        Map<Long, UserEntity> writers = userService.findAllByIds(writerIds);
+
+        long now = Clock.systemUTC().millis();
+        List<PostEntity> postEntities = new ArrayList<>(postCreateDtos.size());
+        List<PostEntity> newPostEntities = new ArrayList<>(postCreateDtos.size());
+        List<PostContentStorage.Encoded> newContents = new ArrayList<>(postCreateDtos.size());
+        for (PostCreateDto postCreateDto : postCreateDtos) {
+            UserEntity writer = writers.get(postCreateDto.getWriterId());
+            if (writer == null) {
+                postEntities.add(null);
+                continue;
+            }
+            PostContentStorage.Encoded content = postContentStorage.encode(postCreateDto.getContent());
+            PostEntity postEntity = new PostEntity();
+            postEntity.setWriter(writer);
+            postEntity.setContent(content.inline());
+            postEntity.setContentExternalized(content.externalized());
+            postEntity.setCreatedAt(now);
+            postEntities.add(postEntity);
+            newPostEntities.add(postEntity);
+            newContents.add(content);
+        }
+        postRepository.saveAll(newPostEntities);
+        for (int i = 0; i < newPostEntities.size(); i++) {
+            postContentStorage.store(newPostEntities.get(i).getId(), newContents.get(i));
+        }
+        for (int i = 0; i < postEntities.size(); i++) {
+            PostEntity postEntity = postEntities.get(i);
+            if (postEntity != null) {
+                postSearchIndexer.indexAfterCommit(postEntity.getId(), postEntity.getVersion(), postCreateDtos.get(i).getContent());
+                postTimelineCache.pushAfterCommit(PostSnapshot.of(postEntity).withContent(postCreateDtos.get(i).getContent()));
+            }
+        }
+        return postEntities;
     }
 
+    @Transactional
+    @Timed("post.service")
     public PostEntity update(long id, PostUpdateDto postUpdateDto) {
-        PostEntity postEntity = getById(id);
-        postEntity.setContent(postUpdateDto.getContent());
-        postEntity.setModifiedAt(Clock.systemUTC().millis());
-        return postRepository.save(postEntity);
+        return update(id, postUpdateDto, null);
+    }
+
+    /**
+     * 한 번의 조건부 UPDATE 로 수정합니다. expectedVersion 이 있으면 버전이 같을 때만 수정합니다.
+     * 마지막으로 본 버전에서 바로 수정되었으면 다시 읽지 않고 이미 아는 값으로 결과를 만들고,
+     * 모르는 게시글이거나 그 사이 다른 요청이 먼저 수정했으면 수정한 뒤 다시 읽습니다.
+     */
+    @Transactional
+    @Timed("post.service")
+    public PostEntity update(long id, PostUpdateDto postUpdateDto, Long expectedVersion) {
+        long now = Clock.systemUTC().millis();
+        PostContentStorage.Encoded content = postContentStorage.encode(postUpdateDto.getContent());
+        PostHeadCache.Head head = postHeadCache.get(id);
+        UserEntity writer = head == null ? null : userService.getById(head.writerId());
+        Long baseVersion = expectedVersion != null ? expectedVersion : head == null ? null : head.version();
+        boolean updated = baseVersion != null
+            && postRepository.updateContentIfVersion(id, baseVersion, content.inline(), content.externalized(), now) == 1;
+
+        PostEntity postEntity;
+        if (updated && head != null && head.version() == baseVersion) {
+            if (head.contentExternalized()) {
+                postContentStorage.replace(id, content);
+            } else {
+                postContentStorage.store(id, content);
+            }
+            postEntity = new PostEntity();
+            postEntity.setId(id);
+            postEntity.setContent(postUpdateDto.getContent());
+            postEntity.setCreatedAt(head.createdAt());
+            postEntity.setModifiedAt(now);
+            postEntity.setWriter(writer);
+            postEntity.setVersion(baseVersion + 1);
+            postHeadCache.putAfterCommit(id, new PostHeadCache.Head(head.writerId(), head.createdAt(), baseVersion + 1, content.externalized()));
+        } else {
+            if (!updated) {
+                if (expectedVersion != null) {
+                    throw postRepository.existsById(id)
+                        ? new VersionConflictException("Posts", id)
+                        : new ResourceNotFoundException("Posts", id);
+                }
+                if (postRepository.updateContent(id, content.inline(), content.externalized(), now) == 0) {
+                    throw new ResourceNotFoundException("Posts", id);
+                }
+            }
+            postContentStorage.replace(id, content);
+            postEntity = loadById(id);
+            postHeadCache.putAfterCommit(id, headOf(postEntity));
+        }
+        postSearchIndexer.indexAfterCommit(id, postEntity.getVersion(), postUpdateDto.getContent());
+        postTimelineCache.invalidateAfterCommit(postEntity.getWriter().getId());
+        return postEntity;
+    }
+
+    /**
+     * 타임라인 캐시에 넣을 최신 게시글을 읽고, 압축된 본문은 한 번의 IN 쿼리로 풀어서 담습니다.
+     */
+    private List<PostSnapshot> loadTimeline(long writerId) {
+        List<PostEntity> postEntities = postRepository.findPageWithWriterByWriterId(
+            writerId, PostCursor.FIRST.createdAt(), PostCursor.FIRST.id(), PageRequest.of(0, postTimelineCache.getPostsPerWriter()));
+        Map<Long, String> contents = postContentStorage.readAll(postEntities.stream()
+            .filter(PostEntity::isContentExternalized)
+            .map(PostEntity::getId)
+            .toList());
+        return postEntities.stream()
+            .map(postEntity -> postEntity.isContentExternalized()
+                ? PostSnapshot.of(postEntity).withContent(contents.get(postEntity.getId()))
+                : PostSnapshot.of(postEntity))
+            .toList();
+    }
+
+    private static PostHeadCache.Head headOf(PostEntity postEntity) {
+        return new PostHeadCache.Head(
+            postEntity.getWriter().getId(), postEntity.getCreatedAt(), postEntity.getVersion(), postEntity.isContentExternalized());
+    }
+
+    private PostEntity loadById(long id) {
+        return postRepository.findWithWriterById(id).orElseThrow(() -> new ResourceNotFoundException("Posts", id));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongFunction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 작성자별 최신 게시글을 크기가 고정된 목록으로 캐시합니다.
+ * 본문을 풀어 둔 불변 스냅샷을 담으므로 캐시에서 읽을 때 DB 를 다시 읽지 않습니다.
+ * 새 게시글은 커밋된 뒤 이미 캐시된 타임라인에만 밀어 넣고, 수정되면 그 작성자의 타임라인을 버립니다.
+ * 캐시에 없는 작성자는 읽을 때 loader 로 최신 글을 읽어 채웁니다.
+ */
+@Component
+public class PostTimelineCache {
+
+    private static final Comparator<PostSnapshot> NEWEST_FIRST = Comparator
+        .comparing(PostSnapshot::createdAt, Comparator.reverseOrder())
+        .thenComparing(PostSnapshot::id, Comparator.reverseOrder());
+
+    private final int postsPerWriter;
+    private final Cache<Long, Timeline> timelines;
+
+    public PostTimelineCache(
+        MeterRegistry meterRegistry,
+        @Value("${timeline.cache.posts-per-writer:20}") int postsPerWriter,
+        @Value("${timeline.cache.max-writers:10000}") long maxWriters,
+        @Value("${timeline.cache.ttl-ms:600000}") long ttlMillis) {
+        this.postsPerWriter = postsPerWriter;
+        this.timelines = Caffeine.newBuilder()
+            .maximumSize(maxWriters)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, "postTimelines");
+    }
+
+    public int getPostsPerWriter() {
+        return postsPerWriter;
+    }
+
+    /**
+     * 작성자의 최신 게시글을 최대 limit 개 돌려줍니다. 캐시에 없으면 loader 가 최신 postsPerWriter 개를 읽어 채웁니다.
+     */
+    public List<PostSnapshot> get(long writerId, int limit, LongFunction<List<PostSnapshot>> loader) {
+        Timeline timeline = timelines.get(writerId, id -> {
+            Timeline loaded = new Timeline(postsPerWriter);
+            loader.apply(id).forEach(loaded::push);
+            return loaded;
+        });
+        return timeline.newest(limit);
+    }
+
+    /**
+     * postSnapshot 의 본문은 풀어 둔 값이어야 합니다.
+     */
+    public void pushAfterCommit(PostSnapshot postSnapshot) {
+        long writerId = postSnapshot.writer().id();
+        afterCommit(() -> timelines.asMap().computeIfPresent(writerId, (id, timeline) -> {
+            timeline.push(postSnapshot);
+            return timeline;
+        }));
+    }
+
+    public void invalidateAfterCommit(long writerId) {
+        afterCommit(() -> timelines.invalidate(writerId));
+    }
+
+    public void invalidateAll() {
+        timelines.invalidateAll();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * NEWEST_FIRST 순으로 정렬된 크기가 고정된 목록입니다. 가득 차면 작성 시각이 가장 오래된 글부터 밀려납니다.
+     * 커밋 순서와 작성 시각 순서는 어긋날 수 있으므로 들어온 순서가 아니라 정렬 순서로 밀어냅니다.
+     * 캐시를 채우는 조회와 커밋 직후의 push 가 겹치면 같은 글이 두 번 들어올 수 있어 걸러냅니다.
+     */
+    static final class Timeline {
+
+        private final int capacity;
+        private final List<PostSnapshot> posts;
+
+        Timeline(int capacity) {
+            this.capacity = capacity;
+            this.posts = new ArrayList<>(capacity);
+        }
+
+        synchronized void push(PostSnapshot postSnapshot) {
+            int index = Collections.binarySearch(posts, postSnapshot, NEWEST_FIRST);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (insertAt >= capacity) {
+                return;
+            }
+            posts.add(insertAt, postSnapshot);
+            if (posts.size() > capacity) {
+                posts.remove(posts.size() - 1);
+            }
+        }
+
+        synchronized List<PostSnapshot> newest(int limit) {
+            return List.copyOf(posts.subList(0, Math.min(limit, posts.size())));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 검색 색인을 다 채우기 전까지 OUT_OF_SERVICE 로 봅니다. readiness 그룹에 넣어 그동안 트래픽을 받지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexHealthIndicator implements HealthIndicator {
+
+    private final PostSearchIndexer postSearchIndexer;
+
+    @Override
+    public Health health() {
+        return postSearchIndexer.isLoaded() ? Health.up().build() : Health.outOfService().build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원가입 요청을 클라이언트 IP 와 이메일 기준으로 제한합니다.
+ * IP 버킷을 먼저 확인하므로 IP 에서 막힌 요청은 이메일 토큰을 쓰지 않습니다.
+ */
+@Component
+public class SignupRateLimiter {
+
+    private final TokenBucketRateLimiter ipRateLimiter;
+    private final TokenBucketRateLimiter emailRateLimiter;
+    private final Counter ipRejectedCounter;
+    private final Counter emailRejectedCounter;
+
+    public SignupRateLimiter(
+        MeterRegistry meterRegistry,
+        @Value("${signup.rate-limit.ip.capacity:20}") long ipCapacity,
+        @Value("${signup.rate-limit.ip.refill-per-minute:20}") double ipRefillPerMinute,
+        @Value("${signup.rate-limit.email.capacity:3}") long emailCapacity,
+        @Value("${signup.rate-limit.email.refill-per-minute:0.5}") double emailRefillPerMinute,
+        @Value("${signup.rate-limit.max-keys:100000}") long maxKeys) {
+        this.ipRateLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerMinute, maxKeys, System::nanoTime);
+        this.emailRateLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerMinute, maxKeys, System::nanoTime);
+        this.ipRejectedCounter = meterRegistry.counter("signup.rate_limited", "key", "ip");
+        this.emailRejectedCounter = meterRegistry.counter("signup.rate_limited", "key", "email");
+    }
+
+    public void check(String clientIp, String email) {
+        if (!ipRateLimiter.tryAcquire(clientIp)) {
+            ipRejectedCounter.increment();
+            throw new TooManyRequestsException();
+        }
+        if (email != null && !emailRateLimiter.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            emailRejectedCounter.increment();
+            throw new TooManyRequestsException();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 한 번의 조회로 합칩니다.
+ * 먼저 온 요청이 loader 를 실행하고, 그동안 들어온 요청은 그 결과(또는 예외)를 함께 받습니다.
+ * 조회가 끝나면 키를 지우므로 결과를 캐시하지는 않습니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loadCounter;
+    private final Counter collapsedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.loadCounter = meterRegistry.counter("singleflight.loads", "name", name);
+        this.collapsedCounter = meterRegistry.counter("singleflight.collapsed", "name", name);
+        Gauge.builder("singleflight.in_flight", inFlight, Map::size)
+            .tag("name", name)
+            .description("Number of keys currently being loaded")
+            .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            collapsedCounter.increment();
+            return await(leader);
+        }
+        loadCounter.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷입니다. 버킷 상태는 AtomicReference 의 CAS 로만 바꾸므로 락을 잡지 않습니다.
+ * 가득 찰 때까지 접근이 없는 버킷은 새로 만든 버킷과 같으므로 그 시간이 지나면 캐시에서 내보내 메모리를 제한합니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = Duration.ofMinutes(1).toNanos();
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private final Cache<String, AtomicReference<Bucket>> buckets;
+
+    public TokenBucketRateLimiter(long capacity, double refillPerMinute, long maxKeys, LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerMinute / NANOS_PER_MINUTE;
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(Duration.ofNanos((long) Math.ceil(capacity / tokensPerNano)))
+            .build();
+    }
+
+    public boolean tryAcquire(String key) {
+        AtomicReference<Bucket> bucket = buckets.get(key, k -> new AtomicReference<>(new Bucket(capacity, nanoTime.getAsLong())));
+        while (true) {
+            Bucket current = bucket.get();
+            long now = nanoTime.getAsLong();
+            double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.refilledAt()) * tokensPerNano);
+            if (tokens < 1) {
+                return false;
+            }
+            if (bucket.compareAndSet(current, new Bucket(tokens - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    private record Bucket(double tokens, long refilledAt) {
+    }
+}
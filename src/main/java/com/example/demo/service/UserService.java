@@ -2,85 +2,248 @@ package com.example.demo.service;
 
 import com.example.demo.exception.CertificationCodeNotMatchedException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.VersionConflictException;
+import com.example.demo.model.MailOutboxStatus;
 import com.example.demo.model.UserStatus;
 import com.example.demo.model.dto.UserCreateDto;
 import com.example.demo.model.dto.UserUpdateDto;
+import com.example.demo.repository.MailOutboxEntity;
+import com.example.demo.repository.MailOutboxRepository;
 import com.example.demo.repository.UserEntity;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.UserSnapshot;
+import io.micrometer.core.annotation.Timed;
 import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final String ACTIVE_USERS_BY_ID = "activeUsersById";
+    public static final String ACTIVE_USERS_BY_EMAIL = "activeUsersByEmail";
+
     private final UserRepository userRepository;
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final LoginTimestampWriteBehind loginTimestampWriteBehind;
+    private final SingleFlight<Long, UserSnapshot> userSingleFlight;
+    private final CacheManager cacheManager;
+
+    @Value("${user.certification.ttl-ms:86400000}")
+    private long certificationTtlMillis;
 
+    @Transactional(readOnly = true)
+    @Timed("user.service")
     public Optional<UserEntity> findById(long id) {
         return userRepository.findByIdAndStatus(id, UserStatus.ACTIVE);
     }
 
+    /**
+     * 캐시에는 불변 스냅샷을 두고, 호출할 때마다 새 엔티티로 만들어 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    @Timed("user.service")
     public UserEntity getByEmail(String email) {
-        return userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE)
-            .orElseThrow(() -> new ResourceNotFoundException("Users", email));
+        return cached(ACTIVE_USERS_BY_EMAIL, email, () -> userRepository.findByEmailAndStatus(email, UserStatus.ACTIVE)
+            .map(UserSnapshot::of)
+            .orElseThrow(() -> new ResourceNotFoundException("Users", email)))
+            .toEntity();
     }
 
+    /**
+     * 캐시에 없는 유저를 트랜잭션 밖에서 동시에 조회하면 한 번의 조회 결과(불변 스냅샷)를 함께 받습니다.
+     * 트랜잭션 안(수정 경로)에서는 합치지 않고 바로 조회합니다.
+     */
+    @Timed("user.service")
     public UserEntity getById(long id) {
-        return userRepository.findByIdAndStatus(id, UserStatus.ACTIVE)
-            .orElseThrow(() -> new ResourceNotFoundException("Users", id));
+        return cached(ACTIVE_USERS_BY_ID, id, () -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                return UserSnapshot.of(loadById(id));
+            }
+            return userSingleFlight.execute(id, () -> UserSnapshot.of(loadById(id)));
+        }).toEntity();
     }
 
+    @Transactional(readOnly = true)
+    @Timed("user.service")
+    public Map<Long, UserEntity> findAllByIds(Collection<Long> ids) {
+        return InClauseChunks.load(ids, chunk -> userRepository.findAllByIdInAndStatus(chunk, UserStatus.ACTIVE)).stream()
+            .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+    }
+
+    /**
+     * 같은 이메일로 인증 대기중인 유저가 있으면 새로 만들지 않고 빈 값을 반환합니다. 저장된 유저 정보는 가입 요청자에게 돌려주지 않습니다.
+     * 인증 코드가 아직 유효하면 메일도 다시 보내지 않고, 만료되었으면 새 코드를 발급해서 보냅니다.
+     */
     @Transactional
-    public UserEntity create(UserCreateDto userCreateDto) {
+    @Timed("user.service")
+    public Optional<UserEntity> create(UserCreateDto userCreateDto) {
+        long now = Clock.systemUTC().millis();
+        Optional<UserEntity> pendingUser = userRepository.findByEmailAndStatus(userCreateDto.getEmail(), UserStatus.PENDING);
+        if (pendingUser.isPresent()) {
+            UserEntity userEntity = pendingUser.get();
+            if (userEntity.getCertificationCode() == null
+                || userEntity.getCertificationExpiresAt() == null
+                || userEntity.getCertificationExpiresAt() <= now) {
+                issueCertificationCode(userEntity, now);
+                enqueueCertificationEmail(userEntity.getEmail(), generateCertificationUrl(userEntity));
+            }
+            return Optional.empty();
+        }
         UserEntity userEntity = new UserEntity();
         userEntity.setEmail(userCreateDto.getEmail());
         userEntity.setNickname(userCreateDto.getNickname());
         userEntity.setAddress(userCreateDto.getAddress());
         userEntity.setStatus(UserStatus.PENDING);
-        userEntity.setCertificationCode(UUID.randomUUID().toString());
+        issueCertificationCode(userEntity, now);
         userEntity = userRepository.save(userEntity);
         String certificationUrl = generateCertificationUrl(userEntity);
-        sendCertificationEmail(userCreateDto.getEmail(), certificationUrl);
-        return userEntity;
+        enqueueCertificationEmail(userCreateDto.getEmail(), certificationUrl);
+        return Optional.of(userEntity);
     }
 
     @Transactional
+    @Timed("user.service")
     public UserEntity update(long id, UserUpdateDto userUpdateDto) {
-        UserEntity userEntity = getById(id);
-        userEntity.setNickname(userUpdateDto.getNickname());
-        userEntity.setAddress(userUpdateDto.getAddress());
-        userEntity = userRepository.save(userEntity);
-        return userEntity;
+        return update(getById(id), userUpdateDto, null);
     }
 
+    /**
+     * 호출자가 이미 읽은 유저를 기준으로 한 번의 조건부 UPDATE 로 수정합니다. expectedVersion 이 있으면 버전이 같을 때만 수정합니다.
+     * 읽은 버전에서 바로 수정되었으면 다시 읽지 않고 읽은 값과 수정한 값으로 결과를 만들고,
+     * 읽은 값이 낡았으면(캐시 등) 수정한 뒤 다시 읽습니다.
+     */
     @Transactional
+    @Timed("user.service")
+    public UserEntity update(UserEntity current, UserUpdateDto userUpdateDto, Long expectedVersion) {
+        long id = current.getId();
+        long baseVersion = expectedVersion == null ? current.getVersion() : expectedVersion;
+        boolean updated = userRepository.updateProfileIfVersion(
+            id, UserStatus.ACTIVE, baseVersion, userUpdateDto.getNickname(), userUpdateDto.getAddress()) == 1;
+
+        UserEntity userEntity;
+        if (updated && current.getVersion() == baseVersion) {
+            userEntity = UserSnapshot.of(current).toEntity();
+            userEntity.setNickname(userUpdateDto.getNickname());
+            userEntity.setAddress(userUpdateDto.getAddress());
+            userEntity.setVersion(baseVersion + 1);
+        } else {
+            if (!updated) {
+                if (expectedVersion != null) {
+                    throw findById(id).isPresent()
+                        ? new VersionConflictException("Users", id)
+                        : new ResourceNotFoundException("Users", id);
+                }
+                if (userRepository.updateProfile(id, UserStatus.ACTIVE, userUpdateDto.getNickname(), userUpdateDto.getAddress()) == 0) {
+                    throw new ResourceNotFoundException("Users", id);
+                }
+            }
+            userEntity = loadById(id);
+        }
+        evictAfterCommit(id, userEntity.getEmail());
+        return userEntity;
+    }
+
+    @Timed("user.service")
     public void login(long id) {
-        UserEntity userEntity = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Users", id));
-        userEntity.setLastLoginAt(Clock.systemUTC().millis());
+        loginTimestampWriteBehind.record(id, Clock.systemUTC().millis());
     }
 
+    /**
+     * 인증 코드가 맞으면 ACTIVE 로 바꾸고 true 를 반환합니다.
+     * 인증 코드는 인증에 성공하면 지우므로 이미 ACTIVE 인 유저는 코드를 확인할 수 없어, 코드와 상관없이 아무것도 바꾸지 않고 false 를 반환합니다.
+     */
     @Transactional
-    public void verifyEmail(long id, String certificationCode) {
-        UserEntity userEntity = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Users", id));
-        if (!certificationCode.equals(userEntity.getCertificationCode())) {
+    @Timed("user.service")
+    public boolean verifyEmail(long id, String certificationCode) {
+        int activated = userRepository.activateIfCertified(
+            id, UserStatus.PENDING, UserStatus.ACTIVE, certificationCode, Clock.systemUTC().millis());
+        if (activated == 1) {
+            evictAfterCommit(id, userRepository.findEmailById(id).orElse(null));
+            return true;
+        }
+        UserStatus status = userRepository.findStatusById(id).orElseThrow(() -> new ResourceNotFoundException("Users", id));
+        if (status != UserStatus.ACTIVE) {
             throw new CertificationCodeNotMatchedException();
         }
-        userEntity.setStatus(UserStatus.ACTIVE);
+        return false;
+    }
+
+    private UserSnapshot cached(String cacheName, Object key, Supplier<UserSnapshot> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        UserSnapshot snapshot = cache == null ? null : cache.get(key, UserSnapshot.class);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        snapshot = loader.get();
+        if (cache != null) {
+            cache.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 상태나 프로필이 바뀌면 커밋된 뒤에 id, email 캐시를 모두 지웁니다.
+     * 커밋 전에 지우면 그 사이 다른 요청이 바뀌기 전 값을 다시 캐시할 수 있습니다.
+     */
+    private void evictAfterCommit(long id, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id, email);
+            }
+        });
+    }
+
+    private void evict(long id, String email) {
+        Cache byId = cacheManager.getCache(ACTIVE_USERS_BY_ID);
+        if (byId != null) {
+            byId.evict(id);
+        }
+        Cache byEmail = cacheManager.getCache(ACTIVE_USERS_BY_EMAIL);
+        if (byEmail != null && email != null) {
+            byEmail.evict(email);
+        }
+    }
+
+    private UserEntity loadById(long id) {
+        return userRepository.findByIdAndStatus(id, UserStatus.ACTIVE)
+            .orElseThrow(() -> new ResourceNotFoundException("Users", id));
+    }
+
+    private void issueCertificationCode(UserEntity userEntity, long now) {
+        userEntity.setCertificationCode(UUID.randomUUID().toString());
+        userEntity.setCertificationExpiresAt(now + certificationTtlMillis);
     }
 
-    private void sendCertificationEmail(String email, String certificationUrl) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setSubject("Please certify your email address");
-        message.setText("Please click the following link to certify your email address: " + certificationUrl);
-        mailSender.send(message);
+    private void enqueueCertificationEmail(String email, String certificationUrl) {
+        long now = Clock.systemUTC().millis();
+        MailOutboxEntity mail = new MailOutboxEntity();
+        mail.setRecipient(email);
+        mail.setSubject("Please certify your email address");
+        mail.setBody("Please click the following link to certify your email address: " + certificationUrl);
+        mail.setStatus(MailOutboxStatus.PENDING);
+        mail.setCreatedAt(now);
+        mail.setNextAttemptAt(now);
+        mailOutboxRepository.save(mail);
     }
 
     private String generateCertificationUrl(UserEntity userEntity) {
@@ -0,0 +1,158 @@
+package com.example.demo.config;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadOnlyRoutingDataSourceTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2023-03-11T00:00:00Z").toEpochMilli());
+
+  private final ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource(1000, clock);
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    ReadYourWritesSession.end();
+  }
+
+  @Test
+  public void readOnly_트랜잭션은_replica_로_보낸다() {
+    //given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    //when
+    Object key = routingDataSource.determineCurrentLookupKey();
+
+    //then
+    assertThat(key).isEqualTo(ReadOnlyRoutingDataSource.REPLICA);
+  }
+
+  @Test
+  public void 쓰기_작업은_primary_로_보낸다() {
+    //given
+    //when
+    Object key = routingDataSource.determineCurrentLookupKey();
+
+    //then
+    assertThat(key).isEqualTo(ReadOnlyRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  public void 쓰기_트랜잭션이_커밋된_뒤_같은_세션의_readOnly_트랜잭션은_primary_로_보낸다() {
+    //given
+    ReadYourWritesSession.begin(0, primaryUntil -> { });
+    completeWriteTransaction(TransactionSynchronization.STATUS_COMMITTED);
+    clock.advance(999);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    //when
+    Object key = routingDataSource.determineCurrentLookupKey();
+
+    //then
+    assertThat(key).isEqualTo(ReadOnlyRoutingDataSource.PRIMARY);
+  }
+
+  @Test
+  public void 쓰기_후_read_your_writes_시간이_지나면_다시_replica_로_보낸다() {
+    //given
+    ReadYourWritesSession.begin(0, primaryUntil -> { });
+    completeWriteTransaction(TransactionSynchronization.STATUS_COMMITTED);
+    clock.advance(1000);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    //when
+    Object key = routingDataSource.determineCurrentLookupKey();
+
+    //then
+    assertThat(key).isEqualTo(ReadOnlyRoutingDataSource.REPLICA);
+  }
+
+  @Test
+  public void 트랜잭션_없는_작업과_롤백된_트랜잭션은_쓰기로_치지_않는다() {
+    //given
+    List<Long> written = new ArrayList<>();
+    ReadYourWritesSession.begin(0, written::add);
+    routingDataSource.determineCurrentLookupKey();
+    completeWriteTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    //when
+    Object key = routingDataSource.determineCurrentLookupKey();
+
+    //then
+    assertThat(key).isEqualTo(ReadOnlyRoutingDataSource.REPLICA);
+    assertThat(written).isEmpty();
+  }
+
+  @Test
+  public void 다른_세션의_쓰기는_readOnly_트랜잭션을_primary_로_보내지_않는다() {
+    //given
+    ReadYourWritesSession.begin(0, primaryUntil -> { });
+    completeWriteTransaction(TransactionSynchronization.STATUS_COMMITTED);
+    ReadYourWritesSession.end();
+    ReadYourWritesSession.begin(0, primaryUntil -> { });
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    //when
+    Object key = routingDataSource.determineCurrentLookupKey();
+
+    //then
+    assertThat(key).isEqualTo(ReadOnlyRoutingDataSource.REPLICA);
+  }
+
+  private void completeWriteTransaction(int status) {
+    TransactionSynchronizationManager.initSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      routingDataSource.determineCurrentLookupKey();
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(synchronization -> synchronization.afterCompletion(status));
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private long millis;
+
+    MutableClock(long millis) {
+      this.millis = millis;
+    }
+
+    void advance(long delta) {
+      millis += delta;
+    }
+
+    @Override
+    public long millis() {
+      return millis;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+  }
+}
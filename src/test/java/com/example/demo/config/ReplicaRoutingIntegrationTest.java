@@ -0,0 +1,103 @@
+package com.example.demo.config;
+
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "datasource.replica.enabled=true",
+    "datasource.replica.read-your-writes-ms=60000",
+    "datasource.replica.hikari.jdbc-url=jdbc:h2:mem:replicadb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "datasource.replica.hikari.username=sa",
+    "datasource.replica.hikari.password="
+})
+class ReplicaRoutingIntegrationTest {
+
+  private static final String PRIMARY_DATABASE = "TESTDB";
+  private static final String REPLICA_DATABASE = "REPLICADB";
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private ReadYourWritesFilter readYourWritesFilter;
+
+  @Test
+  void readOnly_트랜잭션의_읽기는_replica_로_간다() throws Exception {
+    //given
+    AtomicReference<String> database = new AtomicReference<>();
+
+    //when
+    inRequest(new MockHttpServletRequest(), () -> database.set(readOnlyDatabase()));
+
+    //then
+    assertThat(database).hasValue(REPLICA_DATABASE);
+  }
+
+  @Test
+  void 쓰기_직후의_읽기는_같은_요청과_다음_요청_모두_primary_로_간다() throws Exception {
+    //given
+    AtomicReference<String> sameRequest = new AtomicReference<>();
+    AtomicReference<String> nextRequest = new AtomicReference<>();
+
+    //when
+    MockHttpServletResponse response = inRequest(new MockHttpServletRequest(), () -> {
+      write();
+      sameRequest.set(readOnlyDatabase());
+    });
+    MockHttpServletRequest next = new MockHttpServletRequest();
+    next.setCookies(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    inRequest(next, () -> nextRequest.set(readOnlyDatabase()));
+
+    //then
+    assertThat(sameRequest).hasValue(PRIMARY_DATABASE);
+    assertThat(nextRequest).hasValue(PRIMARY_DATABASE);
+  }
+
+  @Test
+  void 다른_세션이나_트랜잭션_없는_작업은_replica_읽기를_막지_않는다() throws Exception {
+    //given
+    AtomicReference<String> database = new AtomicReference<>();
+    inRequest(new MockHttpServletRequest(), this::write);
+    write();
+
+    //when
+    MockHttpServletResponse response = inRequest(new MockHttpServletRequest(), () -> {
+      new JdbcTemplate(dataSource).queryForObject("select count(*) from users", Long.class);
+      database.set(readOnlyDatabase());
+    });
+
+    //then
+    assertThat(database).hasValue(REPLICA_DATABASE);
+    assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+  }
+
+  private MockHttpServletResponse inRequest(MockHttpServletRequest request, Runnable work) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    readYourWritesFilter.doFilter(request, response, (servletRequest, servletResponse) -> work.run());
+    return response;
+  }
+
+  private void write() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        new JdbcTemplate(dataSource).update("update users set version = version where id = -1"));
+  }
+
+  private String readOnlyDatabase() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+    return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject("select database()", String.class));
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.UserStatus;
+import com.example.demo.model.dto.ApiErrorResponse;
+import com.example.demo.repository.UserEntity;
+import com.example.demo.repository.UserRepository;
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest
+@Transactional
+class ExceptionControllerAdviceTest {
+
+  @Autowired
+  private ExceptionControllerAdvice exceptionControllerAdvice;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Test
+  void 이메일_유니크_제약을_위반하면_이미_존재하는_데이터라고_알려준다() {
+    //given
+    userRepository.saveAndFlush(user("dobidugi@gmail.com"));
+    DataIntegrityViolationException exception = catchThrowableOfType(
+        () -> userRepository.saveAndFlush(user("dobidugi@gmail.com")), DataIntegrityViolationException.class);
+
+    //when
+    ApiErrorResponse errorResponse = exceptionControllerAdvice.dataIntegrityViolationException(exception);
+
+    //then
+    assertThat(errorResponse.code()).isEqualTo("DUPLICATE_RESOURCE");
+    assertThat(errorResponse.message()).isEqualTo("이미 존재하는 데이터입니다.");
+  }
+
+  @Test
+  void 다른_무결성_제약_위반은_그대로_다시_던진다() {
+    //given
+    DataIntegrityViolationException exception = new DataIntegrityViolationException("fk",
+        new ConstraintViolationException("fk", new SQLException(), "FK_POSTS_USER_ID"));
+
+    //when
+    //then
+    assertThatThrownBy(() -> exceptionControllerAdvice.dataIntegrityViolationException(exception))
+        .isSameAs(exception);
+  }
+
+  private UserEntity user(String email) {
+    UserEntity userEntity = new UserEntity();
+    userEntity.setEmail(email);
+    userEntity.setNickname("dobidugi");
+    userEntity.setAddress("서울시 강남구");
+    userEntity.setStatus(UserStatus.ACTIVE);
+    return userEntity;
+  }
+}
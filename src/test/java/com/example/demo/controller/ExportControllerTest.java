@@ -0,0 +1,111 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.dto.PostUpdateDto;
+import com.example.demo.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@SqlGroup(
+    {
+        @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "/sql/post-controller-test-data.sql"),
+        @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+    }
+)
+class ExportControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PostService postService;
+
+  @Test
+  public void 게시글_전체를_한줄에_하나씩_JSON_으로_내보낸다() throws Exception {
+    //given
+    MvcResult mvcResult = mockMvc.perform(get("/api/export/posts"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    //when
+    String body = mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    //then
+    String[] lines = body.split("\n");
+    assertThat(body).endsWith("\n");
+    assertThat(lines).hasSize(3);
+    assertThat(lines[0]).startsWith("{").contains("\"id\":1").contains("\"writer\":{");
+  }
+
+  @Test
+  public void 게시글을_내보낼_때_압축된_본문은_묶음마다_한번의_쿼리로_읽어온다() throws Exception {
+    //given
+    String longContent = "hello world ".repeat(100);
+    postService.update(1L, new PostUpdateDto(longContent));
+    postService.update(3L, new PostUpdateDto(longContent));
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    MvcResult mvcResult = mockMvc.perform(get("/api/export/posts"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    //when
+    String body = mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    //then
+    assertThat(body.split("\n")).hasSize(3);
+    assertThat(body).contains("\"content\":\"" + longContent + "\"");
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void 유저_전체를_한줄에_하나씩_JSON_으로_내보낸다() throws Exception {
+    //given
+    MvcResult mvcResult = mockMvc.perform(get("/api/export/users"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    //when
+    String body = mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    //then
+    assertThat(body.split("\n")).hasSize(1);
+    assertThat(body).contains("\"email\":\"dobidugi@gmail.com\"");
+  }
+}
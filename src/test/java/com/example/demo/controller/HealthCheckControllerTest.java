@@ -5,6 +5,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -26,5 +28,20 @@ class HealthCheckControllerTest {
     mockMvc.perform(get("/health_check.html"))
         .andExpect(status().isOk());
   }
-  
+
+  @Test
+  @SqlGroup(
+      {
+          @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "/sql/stale-mail-outbox-data.sql"),
+          @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+      }
+  )
+  public void healthCheck는_메일_발송이_밀려있다면_503_을_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/health_check.html"))
+        .andExpect(status().isServiceUnavailable());
+  }
+
 }
\ No newline at end of file
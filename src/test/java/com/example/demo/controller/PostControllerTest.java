@@ -0,0 +1,341 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.dto.PostUpdateDto;
+import com.example.demo.service.PostHeadCache;
+import com.example.demo.service.PostSearchIndexer;
+import com.example.demo.service.PostService;
+import com.example.demo.service.PostTimelineCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@SqlGroup(
+    {
+        @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "/sql/post-controller-test-data.sql"),
+        @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+    }
+)
+class PostControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PostSearchIndexer postSearchIndexer;
+
+  @Autowired
+  private PostTimelineCache postTimelineCache;
+
+  @Autowired
+  private PostHeadCache postHeadCache;
+
+  @Autowired
+  private PostService postService;
+
+  private Statistics statistics;
+
+  ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    postTimelineCache.invalidateAll();
+    postHeadCache.invalidateAll();
+  }
+
+  @Test
+  public void 게시글_아이디로_게시글과_작성자를_한번의_쿼리로_가져온다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts/1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.content").value("helloworld"))
+        .andExpect(jsonPath("$.writer.id").value(1))
+        .andExpect(jsonPath("$.writer.email").value("dobidugi@gmail.com"));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void If_None_Match_가_현재_ETag_와_같으면_버전만_조회하고_304_를_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, "\"0-0-0-0\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"0-0-0-0\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, must-revalidate, private"))
+        .andExpect(content().string(""));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void If_None_Match_가_현재_ETag_와_다르면_게시글을_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts/1").header(HttpHeaders.IF_NONE_MATCH, "\"0-0-3-0\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"0-0-0-0\""))
+        .andExpect(jsonPath("$.content").value("helloworld"));
+  }
+
+  @Test
+  public void 게시글_목록은_최신순으로_커서를_이용해_페이지를_넘길_수_있다() throws Exception {
+    //given
+    MvcResult firstPage = mockMvc.perform(get("/api/posts").param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.posts.length()").value(2))
+        .andExpect(jsonPath("$.posts[0].id").value(3))
+        .andExpect(jsonPath("$.posts[1].id").value(2))
+        .andExpect(jsonPath("$.nextCursor").isString())
+        .andReturn();
+    String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+    //when
+    //then
+    mockMvc.perform(get("/api/posts").param("size", "2").param("cursor", nextCursor))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.posts.length()").value(1))
+        .andExpect(jsonPath("$.posts[0].id").value(1))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  public void 게시글_목록은_작성자와_함께_한번의_쿼리로_가져온다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts").param("writerId", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.posts.length()").value(3))
+        .andExpect(jsonPath("$.posts[0].writer.id").value(1));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void 본문에_검색어가_들어간_게시글을_검색할_수_있다() throws Exception {
+    //given
+    postSearchIndexer.rebuild();
+
+    //when
+    //then
+    mockMvc.perform(get("/api/posts/search").param("q", "Second"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(1))
+        .andExpect(jsonPath("$.posts.length()").value(1))
+        .andExpect(jsonPath("$.posts[0].id").value(2))
+        .andExpect(jsonPath("$.posts[0].writer.id").value(1));
+  }
+
+  @Test
+  public void 작성자_타임라인은_두번째_조회부터_게시글을_캐시에서_가져온다() throws Exception {
+    //given
+    mockMvc.perform(get("/api/users/1/posts"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3));
+    statistics.clear();
+
+    //when
+    //then
+    mockMvc.perform(get("/api/users/1/posts").param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].id").value(3))
+        .andExpect(jsonPath("$[1].id").value(2))
+        .andExpect(jsonPath("$[0].writer.id").value(1));
+
+    // 테스트에서는 유저 캐시를 끄므로 작성자 조회 한 번만 남습니다.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void 작성자_타임라인_캐시에는_압축된_본문도_풀어서_담아_다시_읽지_않는다() throws Exception {
+    //given
+    String longContent = "hello world ".repeat(100);
+    postService.update(3L, new PostUpdateDto(longContent));
+    mockMvc.perform(get("/api/users/1/posts"));
+    statistics.clear();
+
+    //when
+    //then
+    mockMvc.perform(get("/api/users/1/posts"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(3))
+        .andExpect(jsonPath("$[0].content").value(longContent));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void 게시글을_수정하면_작성자_타임라인을_다시_읽는다() throws Exception {
+    //given
+    mockMvc.perform(get("/api/users/1/posts"));
+    mockMvc.perform(put("/api/posts/1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostUpdateDto("update content"))))
+        .andExpect(status().isOk());
+
+    //when
+    //then
+    mockMvc.perform(get("/api/users/1/posts"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[2].id").value(1))
+        .andExpect(jsonPath("$[2].content").value("update content"));
+  }
+
+  @Test
+  public void 여러_게시글을_한번의_IN_쿼리로_요청한_순서대로_가져온다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts").param("ids", "3,999,1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(3))
+        .andExpect(jsonPath("$.items[0].post.id").value(3))
+        .andExpect(jsonPath("$.items[1].id").value(999))
+        .andExpect(jsonPath("$.items[1].status").value(404))
+        .andExpect(jsonPath("$.items[2].post.content").value("helloworld"))
+        .andExpect(jsonPath("$.items[2].post.writer.id").value(1));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void 여러_게시글_조회의_ids_에_빈_값이_있으면_400_을_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts").param("ids", "1,,3"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_IDS"));
+  }
+
+  @Test
+  public void 잘못된_커서로_게시글_목록을_조회하면_400_을_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts").param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_CURSOR"));
+  }
+
+  @Test
+  public void 게시글_목록의_압축된_본문은_한번의_쿼리로_함께_읽어온다() throws Exception {
+    //given
+    String longContent = "hello world ".repeat(100);
+    postService.update(1L, new PostUpdateDto(longContent));
+    postService.update(3L, new PostUpdateDto(longContent));
+    statistics.clear();
+
+    //when
+    //then
+    mockMvc.perform(get("/api/posts").param("size", "3"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.posts[0].content").value(longContent))
+        .andExpect(jsonPath("$.posts[1].content").value("second"))
+        .andExpect(jsonPath("$.posts[2].content").value(longContent));
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void If_Match_가_현재_버전과_같으면_게시글을_수정하고_새_ETag_를_내려준다() throws Exception {
+    //given
+    PostUpdateDto postUpdateDto = new PostUpdateDto("update content");
+
+    //when
+    //then
+    mockMvc.perform(put("/api/posts/1")
+            .header(HttpHeaders.IF_MATCH, "\"0-0-0-0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(postUpdateDto)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"1-[1-9]\\d*-0-0\"")))
+        .andExpect(jsonPath("$.content").value("update content"));
+  }
+
+  @Test
+  public void 조회한_게시글을_수정하면_다시_읽지_않고_UPDATE_한번으로_응답한다() throws Exception {
+    //given
+    mockMvc.perform(get("/api/posts/1"))
+        .andExpect(status().isOk());
+    statistics.clear();
+
+    //when
+    //then
+    mockMvc.perform(put("/api/posts/1")
+            .header(HttpHeaders.IF_MATCH, "\"0-0-0-0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new PostUpdateDto("update content"))))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"1-[1-9]\\d*-0-0\"")))
+        .andExpect(jsonPath("$.content").value("update content"))
+        .andExpect(jsonPath("$.createdAt").value(1678530673958L))
+        .andExpect(jsonPath("$.writer.id").value(1));
+
+    // 테스트에서는 유저 캐시를 끄므로 작성자 조회가 한 번 더 나갑니다.
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void If_Match_가_현재_버전과_다르면_412_를_내려준다() throws Exception {
+    //given
+    PostUpdateDto postUpdateDto = new PostUpdateDto("update content");
+
+    //when
+    //then
+    mockMvc.perform(put("/api/posts/1")
+            .header(HttpHeaders.IF_MATCH, "\"7-0-0-0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(postUpdateDto)))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.code").value("VERSION_CONFLICT"));
+  }
+
+  @Test
+  public void 존재하지_않는_게시글을_조회하면_404_를_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/posts/123456789"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"))
+        .andExpect(jsonPath("$.message").value("Posts에서 요청한 ID 를 찾을 수 없습니다."));
+  }
+}
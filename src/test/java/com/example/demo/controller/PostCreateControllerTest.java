@@ -0,0 +1,96 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.dto.PostCreateDto;
+import com.example.demo.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase
+@SqlGroup(
+    {
+        @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "/sql/user-service-test-data.sql"),
+        @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+    }
+)
+class PostCreateControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void 게시글을_한번에_여러개_작성하고_실패한_항목이_있으면_207_과_항목별_결과를_내려준다() throws Exception {
+    //given
+    List<PostCreateDto> postCreateDtos = List.of(
+        new PostCreateDto(1L, "first"),
+        new PostCreateDto(2L, "pending writer"),
+        new PostCreateDto(1L, "third"));
+
+    //when
+    //then
+    mockMvc.perform(post("/api/posts/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(postCreateDtos)))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.items.length()").value(3))
+        .andExpect(jsonPath("$.items[0].status").value(201))
+        .andExpect(jsonPath("$.items[0].post.content").value("first"))
+        .andExpect(jsonPath("$.items[1].status").value(404))
+        .andExpect(jsonPath("$.items[2].status").value(201))
+        .andExpect(jsonPath("$.items[2].post.writer.id").value(1));
+    assertThat(postRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  public void 모든_게시글이_작성되면_201_을_내려준다() throws Exception {
+    //given
+    List<PostCreateDto> postCreateDtos = List.of(
+        new PostCreateDto(1L, "first"),
+        new PostCreateDto(1L, "third"));
+
+    //when
+    //then
+    mockMvc.perform(post("/api/posts/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(postCreateDtos)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.items[0].status").value(201))
+        .andExpect(jsonPath("$.items[1].status").value(201));
+    assertThat(postRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  public void 한번에_작성할_수_있는_게시글_수를_넘기면_400_을_내려준다() throws Exception {
+    //given
+    List<PostCreateDto> postCreateDtos = Collections.nCopies(1001, new PostCreateDto(1L, "content"));
+
+    //when
+    //then
+    mockMvc.perform(post("/api/posts/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(postCreateDtos)))
+        .andExpect(status().isBadRequest());
+    assertThat(postRepository.count()).isZero();
+  }
+}
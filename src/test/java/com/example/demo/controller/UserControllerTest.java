@@ -3,8 +3,13 @@ package com.example.demo.controller;
 import com.example.demo.model.UserStatus;
 import com.example.demo.model.dto.UserUpdateDto;
 import com.example.demo.repository.UserEntity;
+import com.example.demo.service.LoginTimestampWriteBehind;
 import com.example.demo.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collections;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -15,9 +20,12 @@ import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +47,12 @@ class UserControllerTest {
   @Autowired
   private UserService userService;
 
+  @Autowired
+  private LoginTimestampWriteBehind loginTimestampWriteBehind;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   ObjectMapper objectMapper = new ObjectMapper();
 
   @Test
@@ -55,6 +69,72 @@ class UserControllerTest {
   }
 
 
+  @Test
+  public void 여러_유저를_요청한_순서대로_가져오고_없는_유저는_항목별로_404_를_표시한다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/users").param("ids", "2,1,999"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(3))
+        .andExpect(jsonPath("$.items[0].id").value(2))
+        .andExpect(jsonPath("$.items[0].status").value(404))
+        .andExpect(jsonPath("$.items[1].status").value(200))
+        .andExpect(jsonPath("$.items[1].user.email").value("dobidugi@gmail.com"))
+        .andExpect(jsonPath("$.items[2].id").value(999))
+        .andExpect(jsonPath("$.items[2].status").value(404));
+  }
+
+  @Test
+  public void 여러_유저_조회의_ids_에_빈_값이_있으면_400_을_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/users").param("ids", "1,,2"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_IDS"));
+  }
+
+  @Test
+  public void 여러_유저를_최대_개수보다_많이_요청하면_400_을_내려준다() throws Exception {
+    //given
+    String ids = String.join(",", Collections.nCopies(101, "1"));
+
+    //when
+    //then
+    mockMvc.perform(get("/api/users").param("ids", ids))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("BATCH_SIZE_EXCEEDED"))
+        .andExpect(jsonPath("$.message").value("한 번에 최대 100개까지 요청할 수 있습니다."));
+  }
+
+  @Test
+  public void If_None_Match_가_현재_ETag_와_같으면_304_를_내려준다() throws Exception {
+    //given
+    //when
+    //then
+    mockMvc.perform(get("/api/users/1")
+                    .header("If-None-Match", "\"0-0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"0-0\""))
+            .andExpect(header().string("Cache-Control", "max-age=10, must-revalidate, private"))
+            .andExpect(content().string(""));
+  }
+
+  @Test
+  public void 로그인_시각이_바뀌면_version_이_같아도_ETag_가_바뀐다() throws Exception {
+    //given
+    userService.login(1L);
+    loginTimestampWriteBehind.flush();
+
+    //when
+    //then
+    mockMvc.perform(get("/api/users/1")
+                    .header("If-None-Match", "\"0-0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", matchesPattern("\"0-[1-9]\\d*\"")));
+  }
+
   @Test
   public void pending_상태인_유저는_certificationCode를_이용해_Active_상태로_만들_수_있다() throws Exception {
     //given
@@ -69,6 +149,19 @@ class UserControllerTest {
     assertEquals(verifyUser.getStatus(), UserStatus.ACTIVE);
   }
 
+  @Test
+  public void 이미_인증된_유저의_인증_요청은_303_으로_구분해서_알려준다() throws Exception {
+    //given
+    userService.verifyEmail(2L, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+
+    //when
+    //then
+    mockMvc.perform(get("/api/users/"+"2"+"/verify")
+                    .param("certificationCode", "wrong-code"))
+            .andExpect(status().isSeeOther())
+            .andExpect(header().string("Location", "http://localhost:3000?alreadyVerified=true"));
+  }
+
   @Test
   public void 내_정보를_조회하면_주소를_가져올_수_있다() throws Exception {
     //given
@@ -102,6 +195,51 @@ class UserControllerTest {
     assertThat(findUser.getAddress()).isEqualTo("Inc");
   }
 
+  @Test
+  public void 내_정보를_수정하면_다시_읽지_않고_UPDATE_한번으로_응답한다() throws Exception {
+    //given
+    UserUpdateDto userUpdateDto = UserUpdateDto.builder()
+            .nickname("dobi2")
+            .address("Inc")
+            .build();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    //when
+    //then
+    mockMvc.perform(put("/api/users/me")
+                    .header("EMAIL", "dobidugi@gmail.com")
+                    .header("If-Match", "\"0\"")
+                    .header("Content-type", "application/json")
+                    .content(objectMapper.writeValueAsString(userUpdateDto))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", matchesPattern("\"1-.*\"")))
+            .andExpect(jsonPath("$.email").value("dobidugi@gmail.com"))
+            .andExpect(jsonPath("$.nickname").value("dobi2"))
+            .andExpect(jsonPath("$.address").value("Inc"));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void 내_정보를_수정할때_If_Match_가_현재_버전과_다르면_412_를_내려준다() throws Exception {
+    //given
+    UserUpdateDto userUpdateDto = UserUpdateDto.builder()
+            .address("Inc")
+            .build();
+    //when
+    //then
+    mockMvc.perform(put("/api/users/me")
+                    .header("EMAIL", "dobidugi@gmail.com")
+                    .header("If-Match", "\"3\"")
+                    .header("Content-type", "application/json")
+                    .content(objectMapper.writeValueAsString(userUpdateDto))
+            )
+            .andExpect(status().isPreconditionFailed());
+    UserEntity findUser = userService.getById(1L);
+    assertThat(findUser.getAddress()).isEqualTo("Seoul");
+  }
+
 
 
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.dto.UserCreateDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "signup.rate-limit.ip.capacity=1",
+    "signup.rate-limit.ip.refill-per-minute=0"
+})
+@SqlGroup(
+    {
+        @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "/sql/user-service-test-data.sql"),
+        @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+    }
+)
+class UserCreateControllerTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  void 새_이메일로_가입하면_201_과_유저_정보를_내려준다() {
+    //given
+    //when
+    ResponseEntity<String> response = signup("198.51.100.1", "new-user@gmail.com");
+
+    //then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getBody()).contains("new-user@gmail.com");
+  }
+
+  @Test
+  void 인증_대기중인_이메일로_가입하면_본문_없이_202_를_내려준다() {
+    //given
+    //when
+    ResponseEntity<String> response = signup("198.51.100.2", "asd3@naver.com");
+
+    //then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    assertThat(response.getBody()).isNull();
+  }
+
+  @Test
+  void 가입_제한은_프록시가_아니라_X_Forwarded_For_의_클라이언트_IP_별로_적용된다() {
+    //given
+    signup("198.51.100.3", "first@gmail.com");
+
+    //when
+    ResponseEntity<String> sameClient = signup("198.51.100.3", "second@gmail.com");
+    ResponseEntity<String> otherClient = signup("198.51.100.4", "third@gmail.com");
+
+    //then
+    assertThat(sameClient.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    assertThat(otherClient.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+  }
+
+  private ResponseEntity<String> signup(String clientIp, String email) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.add("X-Forwarded-For", clientIp);
+    UserCreateDto userCreateDto = UserCreateDto.builder()
+        .email(email)
+        .nickname("dobidugi")
+        .address("Seoul")
+        .build();
+    return restTemplate.postForEntity("/api/users", new HttpEntity<>(userCreateDto, headers), String.class);
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.mock;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+public class FakeMailSender implements JavaMailSender {
+
+  private final List<SimpleMailMessage> sentMessages = new ArrayList<>();
+  private final List<MimeMessage> sentMimeMessages = new ArrayList<>();
+  private int sendCalls;
+  private boolean failing;
+
+  public List<SimpleMailMessage> getSentMessages() {
+    return sentMessages;
+  }
+
+  public List<MimeMessage> getSentMimeMessages() {
+    return sentMimeMessages;
+  }
+
+  public int getSendCalls() {
+    return sendCalls;
+  }
+
+  public void setFailing(boolean failing) {
+    this.failing = failing;
+  }
+
+  public void reset() {
+    sentMessages.clear();
+    sentMimeMessages.clear();
+    sendCalls = 0;
+    failing = false;
+  }
+
+  @Override
+  public void send(SimpleMailMessage simpleMessage) {
+    send(new SimpleMailMessage[]{simpleMessage});
+  }
+
+  @Override
+  public void send(SimpleMailMessage... simpleMessages) {
+    beforeSend();
+    sentMessages.addAll(Arrays.asList(simpleMessages));
+  }
+
+  @Override
+  public MimeMessage createMimeMessage() {
+    return new MimeMessage(Session.getInstance(new Properties()));
+  }
+
+  @Override
+  public MimeMessage createMimeMessage(InputStream contentStream) {
+    try {
+      return new MimeMessage(Session.getInstance(new Properties()), contentStream);
+    } catch (MessagingException exception) {
+      throw new MailParseException("Could not parse raw MIME content", exception);
+    }
+  }
+
+  @Override
+  public void send(MimeMessage mimeMessage) {
+    send(new MimeMessage[]{mimeMessage});
+  }
+
+  @Override
+  public void send(MimeMessage... mimeMessages) {
+    beforeSend();
+    sentMimeMessages.addAll(Arrays.asList(mimeMessages));
+  }
+
+  @Override
+  public void send(MimeMessagePreparator mimeMessagePreparator) {
+    send(new MimeMessagePreparator[]{mimeMessagePreparator});
+  }
+
+  @Override
+  public void send(MimeMessagePreparator... mimeMessagePreparators) {
+    MimeMessage[] mimeMessages = new MimeMessage[mimeMessagePreparators.length];
+    for (int i = 0; i < mimeMessagePreparators.length; i++) {
+      mimeMessages[i] = createMimeMessage();
+      try {
+        mimeMessagePreparators[i].prepare(mimeMessages[i]);
+      } catch (Exception exception) {
+        throw new MailPreparationException(exception);
+      }
+    }
+    send(mimeMessages);
+  }
+
+  private void beforeSend() {
+    sendCalls++;
+    if (failing) {
+      throw new MailSendException("fake smtp failure");
+    }
+  }
+}
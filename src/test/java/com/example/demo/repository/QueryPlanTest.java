@@ -0,0 +1,123 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.UserStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 메서드가 실제로 만드는 SQL 을 StatementInspector 로 가로채 EXPLAIN 합니다.
+ */
+@DataJpaTest(showSql = false, properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.demo.repository.QueryPlanTest$SqlRecorder")
+class QueryPlanTest {
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    SqlRecorder.clear();
+  }
+
+  @Test
+  void email_과_status_로_유저를_찾을때_인덱스를_사용한다() {
+    //given
+    //when
+    userRepository.findByEmailAndStatus("dobidugi@gmail.com", UserStatus.ACTIVE);
+
+    //then
+    assertThat(explainLast()).contains("UK_USERS_EMAIL");
+  }
+
+  @Test
+  void 만료된_인증_코드를_지울때_인덱스를_사용한다() {
+    //given
+    //when
+    userRepository.clearExpiredCertificationCodes(UserStatus.PENDING, 1678530673958L);
+
+    //then
+    assertThat(explainLast()).contains("IDX_USERS_CERTIFICATION_EXPIRES_AT");
+  }
+
+  @Test
+  void 게시글_목록을_찾을때_인덱스를_사용한다() {
+    //given
+    //when
+    postRepository.findPageWithWriter(Long.MAX_VALUE, Long.MAX_VALUE, PageRequest.ofSize(20));
+
+    //then
+    assertThat(explainLast()).contains("IDX_POSTS_CREATED_AT_ID");
+  }
+
+  @Test
+  void 작성자로_게시글을_찾을때_인덱스를_사용한다() {
+    //given
+    //when
+    postRepository.findPageWithWriterByWriterId(1L, Long.MAX_VALUE, Long.MAX_VALUE, PageRequest.ofSize(20));
+
+    //then
+    assertThat(explainLast()).contains("IDX_POSTS_USER_ID_CREATED_AT_ID");
+  }
+
+  @Test
+  void 작성_시각으로_바뀐_게시글을_찾을때_인덱스를_사용한다() {
+    //given
+    //when
+    postRepository.findIndexViewsCreatedSince(1678530673958L);
+
+    //then
+    assertThat(explainLast()).contains("IDX_POSTS_CREATED_AT_ID");
+  }
+
+  @Test
+  void 수정_시각으로_바뀐_게시글을_찾을때_인덱스를_사용한다() {
+    //given
+    //when
+    postRepository.findIndexViewsModifiedSince(1678530673958L);
+
+    //then
+    assertThat(explainLast()).contains("IDX_POSTS_MODIFIED_AT");
+  }
+
+  private String explainLast() {
+    String sql = SqlRecorder.last();
+    Object[] parameters = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+    return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+  }
+
+  public static class SqlRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+
+    static void clear() {
+      STATEMENTS.clear();
+    }
+
+    static String last() {
+      assertThat(STATEMENTS).isNotEmpty();
+      return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+  }
+}
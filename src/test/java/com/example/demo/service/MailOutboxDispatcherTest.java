@@ -0,0 +1,144 @@
+package com.example.demo.service;
+
+import com.example.demo.mock.FakeMailSender;
+import com.example.demo.model.MailOutboxStatus;
+import com.example.demo.model.dto.UserCreateDto;
+import com.example.demo.repository.MailOutboxEntity;
+import com.example.demo.repository.MailOutboxRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = "mail.outbox.max-attempts=2")
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+class MailOutboxDispatcherTest {
+
+  @TestConfiguration
+  static class FakeMailSenderConfig {
+
+    @Bean
+    FakeMailSender fakeMailSender() {
+      return new FakeMailSender();
+    }
+  }
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private MailOutboxDispatcher mailOutboxDispatcher;
+
+  @Autowired
+  private MailOutboxRepository mailOutboxRepository;
+
+  @Autowired
+  private FakeMailSender fakeMailSender;
+
+  @AfterEach
+  void tearDown() {
+    fakeMailSender.reset();
+  }
+
+  @Test
+  void create는_메일을_바로_보내지_않고_outbox_에_쌓는다() {
+    //given
+    //when
+    userService.create(userCreateDto("outbox1@gmail.com"));
+
+    //then
+    List<MailOutboxEntity> mails = mailOutboxRepository.findAll();
+    assertThat(mails).hasSize(1);
+    assertThat(mails.get(0).getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+    assertThat(mails.get(0).getRecipient()).isEqualTo("outbox1@gmail.com");
+    assertThat(fakeMailSender.getSentMessages()).isEmpty();
+  }
+
+  @Test
+  void dispatch는_대기중인_메일을_한번의_연결로_발송한다() {
+    //given
+    userService.create(userCreateDto("outbox1@gmail.com"));
+    userService.create(userCreateDto("outbox2@gmail.com"));
+
+    //when
+    mailOutboxDispatcher.dispatch();
+
+    //then
+    assertThat(fakeMailSender.getSendCalls()).isEqualTo(1);
+    assertThat(fakeMailSender.getSentMessages()).hasSize(2);
+    assertThat(mailOutboxRepository.findAll())
+        .extracting(MailOutboxEntity::getStatus)
+        .containsOnly(MailOutboxStatus.SENT);
+  }
+
+  @Test
+  void dispatch가_실패하면_재시도를_예약하고_최대_횟수를_넘기면_FAILED_로_바꾼다() {
+    //given
+    userService.create(userCreateDto("outbox1@gmail.com"));
+    fakeMailSender.setFailing(true);
+
+    //when
+    mailOutboxDispatcher.dispatch();
+
+    //then
+    MailOutboxEntity retried = mailOutboxRepository.findAll().get(0);
+    assertThat(retried.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+    assertThat(retried.getAttempts()).isEqualTo(1);
+    assertThat(retried.getNextAttemptAt()).isGreaterThan(retried.getCreatedAt());
+
+    //when
+    retried.setNextAttemptAt(0L);
+    mailOutboxRepository.save(retried);
+    mailOutboxDispatcher.dispatch();
+
+    //then
+    MailOutboxEntity failed = mailOutboxRepository.findAll().get(0);
+    assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+    assertThat(failed.getAttempts()).isEqualTo(2);
+  }
+
+  @Test
+  void 다른_인스턴스가_가져간_메일은_보내지_않고_가져간_뒤_오래_결과가_없으면_다시_보낸다() {
+    //given
+    userService.create(userCreateDto("outbox1@gmail.com"));
+    MailOutboxEntity claimed = mailOutboxRepository.findAll().get(0);
+    claimed.setStatus(MailOutboxStatus.SENDING);
+    claimed.setClaimToken("other-instance");
+    claimed.setClaimedAt(System.currentTimeMillis());
+    mailOutboxRepository.save(claimed);
+
+    //when
+    mailOutboxDispatcher.dispatch();
+
+    //then
+    assertThat(fakeMailSender.getSendCalls()).isZero();
+
+    //when
+    claimed = mailOutboxRepository.findAll().get(0);
+    claimed.setClaimedAt(0L);
+    mailOutboxRepository.save(claimed);
+    mailOutboxDispatcher.dispatch();
+
+    //then
+    MailOutboxEntity sent = mailOutboxRepository.findAll().get(0);
+    assertThat(fakeMailSender.getSentMessages()).hasSize(1);
+    assertThat(sent.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+    assertThat(sent.getClaimToken()).isNull();
+  }
+
+  private UserCreateDto userCreateDto(String email) {
+    return UserCreateDto.builder()
+        .email(email)
+        .address("서울시 강남구")
+        .nickname("dobidugi")
+        .build();
+  }
+}
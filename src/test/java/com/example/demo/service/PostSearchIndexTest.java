@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+  private final PostSearchIndex postSearchIndex = new PostSearchIndex();
+
+  @Test
+  void 검색어가_더_많이_나오는_게시글이_먼저_나온다() {
+    //given
+    postSearchIndex.index(1L, 0L, "spring boot");
+    postSearchIndex.index(2L, 0L, "Spring, spring and more spring");
+    postSearchIndex.index(3L, 0L, "hello world");
+
+    //when
+    PostSearchIndex.Hits hits = postSearchIndex.search("SPRING", 0, 10);
+
+    //then
+    assertThat(hits.postIds()).containsExactly(2L, 1L);
+    assertThat(hits.total()).isEqualTo(2);
+  }
+
+  @Test
+  void 검색_결과를_페이지로_나눠_가져온다() {
+    //given
+    postSearchIndex.index(1L, 0L, "spring");
+    postSearchIndex.index(2L, 0L, "spring");
+    postSearchIndex.index(3L, 0L, "spring");
+
+    //when
+    PostSearchIndex.Hits hits = postSearchIndex.search("spring", 1, 1);
+
+    //then
+    assertThat(hits.postIds()).containsExactly(2L);
+    assertThat(hits.total()).isEqualTo(3);
+  }
+
+  @Test
+  void 수정된_본문으로_다시_색인하면_이전_단어로는_검색되지_않는다() {
+    //given
+    postSearchIndex.index(1L, 0L, "helloworld");
+
+    //when
+    postSearchIndex.index(1L, 1L, "게시글 수정");
+
+    //then
+    assertThat(postSearchIndex.search("helloworld", 0, 10).postIds()).isEmpty();
+    assertThat(postSearchIndex.search("수정", 0, 10).postIds()).containsExactly(1L);
+  }
+
+  @Test
+  void 이전_버전의_본문으로는_색인을_덮어쓰지_않는다() {
+    //given
+    postSearchIndex.index(1L, 2L, "new content");
+
+    //when
+    postSearchIndex.index(1L, 1L, "old content");
+
+    //then
+    assertThat(postSearchIndex.search("old", 0, 10).postIds()).isEmpty();
+    assertThat(postSearchIndex.search("new", 0, 10).postIds()).containsExactly(1L);
+  }
+
+  @Test
+  void 세그먼트_파일로_저장한_색인을_다시_읽을_수_있다(@TempDir Path directory) throws Exception {
+    //given
+    postSearchIndex.index(1L, 0L, "spring boot");
+    postSearchIndex.index(2L, 3L, "게시글 검색");
+    Path segment = directory.resolve("posts-1.seg");
+    postSearchIndex.writeSegment(segment, 1678530673958L);
+
+    //when
+    PostSearchIndex loaded = new PostSearchIndex();
+    long snapshotAt = loaded.readSegment(segment);
+
+    //then
+    assertThat(snapshotAt).isEqualTo(1678530673958L);
+    assertThat(loaded.size()).isEqualTo(2);
+    assertThat(loaded.search("검색", 0, 10).postIds()).containsExactly(2L);
+    assertThat(loaded.search("boot", 0, 10).postIds()).containsExactly(1L);
+  }
+}
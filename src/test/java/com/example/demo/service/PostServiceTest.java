@@ -4,7 +4,9 @@ import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.UserStatus;
 import com.example.demo.model.dto.PostCreateDto;
 import com.example.demo.model.dto.PostUpdateDto;
+import com.example.demo.repository.PostContentRepository;
 import com.example.demo.repository.PostEntity;
+import com.example.demo.repository.PostRepository;
 import com.example.demo.repository.UserEntity;
 import com.example.demo.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,18 @@ class PostServiceTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private PostSearchIndexer postSearchIndexer;
+
+  @Autowired
+  private PostContentRepository postContentRepository;
+
+  @Autowired
+  private PostContentStorage postContentStorage;
+
   @Test
   public void getById는_존재하는_게시글을_가져온다() {
     //given
@@ -107,6 +121,52 @@ class PostServiceTest {
     assertThat(findPost.getContent()).isEqualTo("update content");
   }
 
+  @Test
+  public void 임계값보다_긴_본문은_압축해서_별도로_저장한다() {
+    //given
+    UserEntity userEntity = new UserEntity();
+    userEntity.setEmail("dobidugi@gmail.com");
+    userEntity.setNickname("dobidugi");
+    userEntity.setAddress("서울시 강남구");
+    userEntity.setStatus(UserStatus.ACTIVE);
+    userRepository.save(userEntity);
+
+    String content = "hello world ".repeat(100);
+    PostCreateDto postCreateDto = new PostCreateDto(userEntity.getId(), content);
+
+    //when
+    PostEntity postEntity = postService.create(postCreateDto);
+
+    //then
+    assertThat(postEntity.isContentExternalized()).isTrue();
+    assertThat(postEntity.getContent()).isNull();
+    assertThat(postContentRepository.findById(postEntity.getId()).get().getData().length)
+        .isLessThan(content.length());
+    assertThat(postService.getContent(postEntity.getId())).isEqualTo(content);
+  }
+
+  @Test
+  public void update로_본문이_짧아지면_압축된_본문을_지우고_인라인으로_저장한다() {
+    //given
+    UserEntity userEntity = new UserEntity();
+    userEntity.setEmail("dobidugi@gmail.com");
+    userEntity.setNickname("dobidugi");
+    userEntity.setAddress("서울시 강남구");
+    userEntity.setStatus(UserStatus.ACTIVE);
+    userRepository.save(userEntity);
+
+    PostCreateDto postCreateDto = new PostCreateDto(userEntity.getId(), "hello world ".repeat(100));
+    PostEntity postEntity = postService.create(postCreateDto);
+
+    //when
+    PostEntity findPost = postService.update(postEntity.getId(), new PostUpdateDto("short"));
+
+    //then
+    assertThat(findPost.isContentExternalized()).isFalse();
+    assertThat(findPost.getContent()).isEqualTo("short");
+    assertThat(postContentRepository.existsById(postEntity.getId())).isFalse();
+  }
+
   @Test
   public void update시_게시글을_찾을_수_없다면_에러를_발생_시킨다() {
     //given
@@ -120,5 +180,59 @@ class PostServiceTest {
     }).isInstanceOf(ResourceNotFoundException.class);
   }
 
+  @Test
+  public void 다른_인스턴스가_작성한_게시글은_주기적으로_따라잡아_검색된다() {
+    //given
+    UserEntity userEntity = new UserEntity();
+    userEntity.setEmail("dobidugi@gmail.com");
+    userEntity.setNickname("dobidugi");
+    userEntity.setAddress("서울시 강남구");
+    userEntity.setStatus(UserStatus.ACTIVE);
+    userRepository.save(userEntity);
+
+    PostEntity postEntity = new PostEntity();
+    postEntity.setWriter(userEntity);
+    postEntity.setContent("catchupkeyword");
+    postEntity.setCreatedAt(System.currentTimeMillis());
+    postRepository.save(postEntity);
+    assertThat(postService.search("catchupkeyword", 0, 10).posts()).isEmpty();
+
+    //when
+    postSearchIndexer.catchUpChanges();
+
+    //then
+    assertThat(postService.search("catchupkeyword", 0, 10).posts())
+        .extracting(PostEntity::getId)
+        .containsExactly(postEntity.getId());
+  }
+
+  @Test
+  public void 오래전에_작성되고_다른_인스턴스가_수정한_압축_본문도_따라잡아_검색된다() {
+    //given
+    UserEntity userEntity = new UserEntity();
+    userEntity.setEmail("catchup@gmail.com");
+    userEntity.setNickname("dobidugi");
+    userEntity.setAddress("서울시 강남구");
+    userEntity.setStatus(UserStatus.ACTIVE);
+    userRepository.save(userEntity);
+
+    PostEntity postEntity = new PostEntity();
+    postEntity.setWriter(userEntity);
+    postEntity.setContent("old content");
+    postEntity.setCreatedAt(1678530673958L);
+    postRepository.save(postEntity);
+
+    String content = "modifiedcatchupkeyword ".repeat(20);
+    postRepository.updateContent(postEntity.getId(), null, true, System.currentTimeMillis());
+    postContentStorage.replace(postEntity.getId(), postContentStorage.encode(content));
+    assertThat(postService.search("modifiedcatchupkeyword", 0, 10).posts()).isEmpty();
 
-}
\ No newline at end of file
+    //when
+    postSearchIndexer.catchUpChanges();
+
+    //then
+    assertThat(postService.search("modifiedcatchupkeyword", 0, 10).posts())
+        .extracting(PostEntity::getId)
+        .containsExactly(postEntity.getId());
+  }
+}
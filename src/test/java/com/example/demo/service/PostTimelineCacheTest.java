@@ -0,0 +1,110 @@
+package com.example.demo.service;
+
+import com.example.demo.model.UserStatus;
+import com.example.demo.repository.PostSnapshot;
+import com.example.demo.repository.UserSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostTimelineCacheTest {
+
+  private final PostTimelineCache postTimelineCache = new PostTimelineCache(new SimpleMeterRegistry(), 2, 100, 60_000);
+
+  @Test
+  void 캐시에_없으면_loader_로_채우고_그_다음부터는_loader_를_부르지_않는다() {
+    //given
+    AtomicInteger loads = new AtomicInteger();
+
+    //when
+    postTimelineCache.get(1, 2, id -> {
+      loads.incrementAndGet();
+      return List.of(post(2, 200), post(1, 100));
+    });
+    List<PostSnapshot> timeline = postTimelineCache.get(1, 2, id -> {
+      loads.incrementAndGet();
+      return List.of();
+    });
+
+    //then
+    assertThat(loads).hasValue(1);
+    assertThat(timeline).extracting(PostSnapshot::id).containsExactly(2L, 1L);
+  }
+
+  @Test
+  void 가득_찬_타임라인에_새_글을_넣으면_가장_오래된_글이_밀려난다() {
+    //given
+    postTimelineCache.get(1, 2, id -> List.of(post(2, 200), post(1, 100)));
+
+    //when
+    postTimelineCache.pushAfterCommit(post(3, 300));
+
+    //then
+    assertThat(postTimelineCache.get(1, 2, id -> List.of()))
+        .extracting(PostSnapshot::id)
+        .containsExactly(3L, 2L);
+  }
+
+  @Test
+  void 가득_찬_타임라인에는_들어온_순서가_아니라_작성_시각이_가장_오래된_글이_밀려난다() {
+    //given
+    postTimelineCache.get(1, 2, id -> List.of(post(1, 100), post(3, 300)));
+
+    //when
+    postTimelineCache.pushAfterCommit(post(2, 200));
+    postTimelineCache.pushAfterCommit(post(4, 50));
+
+    //then
+    assertThat(postTimelineCache.get(1, 2, id -> List.of()))
+        .extracting(PostSnapshot::id)
+        .containsExactly(3L, 2L);
+  }
+
+  @Test
+  void 이미_들어있는_글은_다시_넣지_않는다() {
+    //given
+    postTimelineCache.get(1, 2, id -> List.of(post(2, 200), post(1, 100)));
+
+    //when
+    postTimelineCache.pushAfterCommit(post(2, 200));
+
+    //then
+    assertThat(postTimelineCache.get(1, 2, id -> List.of()))
+        .extracting(PostSnapshot::id)
+        .containsExactly(2L, 1L);
+  }
+
+  @Test
+  void 캐시에_없는_작성자의_새_글은_넣지_않고_다음_조회에서_읽는다() {
+    //given
+    postTimelineCache.pushAfterCommit(post(3, 300));
+
+    //when
+    //then
+    assertThat(postTimelineCache.get(1, 2, id -> List.of(post(1, 100))))
+        .extracting(PostSnapshot::id)
+        .containsExactly(1L);
+  }
+
+  @Test
+  void 무효화하면_다시_loader_로_읽는다() {
+    //given
+    postTimelineCache.get(1, 2, id -> List.of(post(1, 100)));
+
+    //when
+    postTimelineCache.invalidateAfterCommit(1);
+
+    //then
+    assertThat(postTimelineCache.get(1, 2, id -> List.of(post(2, 200), post(1, 100))))
+        .extracting(PostSnapshot::id)
+        .containsExactly(2L, 1L);
+  }
+
+  private PostSnapshot post(long id, long createdAt) {
+    UserSnapshot writer = new UserSnapshot(1L, "dobidugi@gmail.com", "dobi", "Seoul", null, null, UserStatus.ACTIVE, 0L, 0L);
+    return new PostSnapshot(id, "content" + id, false, createdAt, null, writer, 0L);
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SearchIndexHealthIndicatorTest {
+
+  private final PostRepository postRepository = mock(PostRepository.class);
+
+  private final PostSearchIndexer postSearchIndexer = new PostSearchIndexer(
+      postRepository, mock(PostContentStorage.class), new SimpleMeterRegistry(), "", 1, true, true);
+
+  private final SearchIndexHealthIndicator searchIndexHealthIndicator = new SearchIndexHealthIndicator(postSearchIndexer);
+
+  @Test
+  void 기동_시_색인을_채우는_동안은_OUT_OF_SERVICE_이고_다_채우면_UP_이다() throws Exception {
+    //given
+    CountDownLatch release = new CountDownLatch(1);
+    given(postRepository.findMinId()).willAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    });
+
+    //when
+    postSearchIndexer.onApplicationReady();
+
+    //then
+    assertThat(searchIndexHealthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    release.countDown();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!postSearchIndexer.isLoaded() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(searchIndexHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+  }
+}
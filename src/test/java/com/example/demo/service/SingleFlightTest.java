@@ -0,0 +1,111 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void 같은_키를_동시에_조회하면_loader_를_한번만_실행한다() throws Exception {
+    //given
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+
+    //when
+    Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+      loads.incrementAndGet();
+      loading.countDown();
+      await(release);
+      return "post-1";
+    }));
+    loading.await(5, TimeUnit.SECONDS);
+    List<Future<String>> followers = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+        loads.incrementAndGet();
+        return "other";
+      })));
+    }
+    while (meterRegistry.counter("singleflight.collapsed", "name", "test").count() < 3) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    //then
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+    for (Future<String> follower : followers) {
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+    }
+    assertThat(loads).hasValue(1);
+    assertThat(meterRegistry.counter("singleflight.loads", "name", "test").count()).isEqualTo(1);
+  }
+
+  @Test
+  void loader_가_실패하면_기다리던_요청도_같은_예외를_받는다() throws Exception {
+    //given
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("db down");
+
+    //when
+    Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+      loading.countDown();
+      await(release);
+      throw failure;
+    }));
+    loading.await(5, TimeUnit.SECONDS);
+    Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "other"));
+    while (meterRegistry.counter("singleflight.collapsed", "name", "test").count() < 1) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    //then
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+  }
+
+  @Test
+  void 조회가_끝나면_결과를_남기지_않고_다음_조회는_다시_loader_를_실행한다() {
+    //given
+    singleFlight.execute(1L, () -> "first");
+
+    //when
+    String result = singleFlight.execute(1L, () -> "second");
+
+    //then
+    assertThat(result).isEqualTo("second");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
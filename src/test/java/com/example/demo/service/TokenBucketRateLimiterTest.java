@@ -0,0 +1,49 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, 1, 100, nanoTime::get);
+
+  @Test
+  void 버킷_용량만큼_요청하면_그_다음_요청은_거절한다() {
+    //given
+    //when
+    //then
+    assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+    assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+    assertThat(rateLimiter.tryAcquire("127.0.0.1")).isFalse();
+  }
+
+  @Test
+  void 키마다_버킷을_따로_가진다() {
+    //given
+    rateLimiter.tryAcquire("127.0.0.1");
+    rateLimiter.tryAcquire("127.0.0.1");
+
+    //when
+    //then
+    assertThat(rateLimiter.tryAcquire("127.0.0.2")).isTrue();
+  }
+
+  @Test
+  void 시간이_지나면_토큰이_다시_채워진다() {
+    //given
+    rateLimiter.tryAcquire("127.0.0.1");
+    rateLimiter.tryAcquire("127.0.0.1");
+
+    //when
+    nanoTime.addAndGet(Duration.ofMinutes(1).toNanos());
+
+    //then
+    assertThat(rateLimiter.tryAcquire("127.0.0.1")).isTrue();
+    assertThat(rateLimiter.tryAcquire("127.0.0.1")).isFalse();
+  }
+}
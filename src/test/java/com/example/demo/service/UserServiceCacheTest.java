@@ -0,0 +1,135 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.UserStatus;
+import com.example.demo.model.dto.UserUpdateDto;
+import com.example.demo.repository.UserEntity;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+    "spring.cache.type=caffeine",
+    "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=60s,recordStats"
+})
+@SqlGroup(
+    {
+        @Sql(executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD, scripts = "/sql/user-service-test-data.sql"),
+        @Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, scripts = "/sql/delete-all-data.sql")
+    }
+)
+class UserServiceCacheTest {
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @SpyBean
+  private UserRepository userRepository;
+
+  @AfterEach
+  void tearDown() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    clearInvocations(userRepository);
+  }
+
+  @Test
+  void getById는_두번째_조회부터_캐시에서_가져온다() {
+    //given
+    userService.getById(1L);
+
+    //when
+    UserEntity findUser = userService.getById(1L);
+
+    //then
+    assertThat(findUser.getEmail()).isEqualTo("dobidugi@gmail.com");
+    verify(userRepository, times(1)).findByIdAndStatus(1L, UserStatus.ACTIVE);
+  }
+
+  @Test
+  void getByEmail은_두번째_조회부터_캐시에서_가져온다() {
+    //given
+    userService.getByEmail("dobidugi@gmail.com");
+
+    //when
+    userService.getByEmail("dobidugi@gmail.com");
+
+    //then
+    verify(userRepository, times(1)).findByEmailAndStatus("dobidugi@gmail.com", UserStatus.ACTIVE);
+  }
+
+  @Test
+  void update는_id_와_email_캐시를_모두_무효화한다() {
+    //given
+    userService.getById(1L);
+    userService.getByEmail("dobidugi@gmail.com");
+    UserUpdateDto updateDto = UserUpdateDto.builder()
+        .nickname("dobidugi2")
+        .address("인천시")
+        .build();
+
+    //when
+    userService.update(1L, updateDto);
+
+    //then
+    assertThat(userService.getById(1L).getNickname()).isEqualTo("dobidugi2");
+    assertThat(userService.getByEmail("dobidugi@gmail.com").getNickname()).isEqualTo("dobidugi2");
+    verify(userRepository, times(2)).findByEmailAndStatus(eq("dobidugi@gmail.com"), eq(UserStatus.ACTIVE));
+  }
+
+  @Test
+  void 캐시에서_받은_유저를_고쳐도_캐시는_바뀌지_않는다() {
+    //given
+    userService.getById(1L).setNickname("changed");
+
+    //when
+    UserEntity findUser = userService.getById(1L);
+
+    //then
+    assertThat(findUser.getNickname()).isEqualTo("dobi");
+  }
+
+  @Test
+  void verifyEmail은_id_와_email_캐시를_모두_무효화한다() {
+    //given
+    cacheManager.getCache(UserService.ACTIVE_USERS_BY_ID).put(2L, "stale");
+    cacheManager.getCache(UserService.ACTIVE_USERS_BY_EMAIL).put("asd3@naver.com", "stale");
+
+    //when
+    userService.verifyEmail(2L, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+
+    //then
+    assertThat(cacheManager.getCache(UserService.ACTIVE_USERS_BY_ID).get(2L)).isNull();
+    assertThat(cacheManager.getCache(UserService.ACTIVE_USERS_BY_EMAIL).get("asd3@naver.com")).isNull();
+  }
+
+  @Test
+  void 찾을_수_없는_유저는_캐시하지_않는다() {
+    //given
+    assertThatThrownBy(() -> userService.getById(2L)).isInstanceOf(ResourceNotFoundException.class);
+    userService.verifyEmail(2L, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+
+    //when
+    UserEntity findUser = userService.getById(2L);
+
+    //then
+    assertThat(findUser.getStatus()).isEqualTo(UserStatus.ACTIVE);
+    verify(userRepository, times(2)).findByIdAndStatus(anyLong(), eq(UserStatus.ACTIVE));
+  }
+}
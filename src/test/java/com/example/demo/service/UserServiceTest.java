@@ -7,6 +7,7 @@ import com.example.demo.model.dto.UserCreateDto;
 import com.example.demo.model.dto.UserUpdateDto;
 import com.example.demo.repository.UserEntity;
 import com.example.demo.repository.UserRepository;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +37,12 @@ class UserServiceTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private LoginTimestampWriteBehind loginTimestampWriteBehind;
+
+  @Autowired
+  private CertificationCodePurger certificationCodePurger;
+
   @MockBean
   private JavaMailSender mailSender;
 
@@ -95,13 +102,13 @@ class UserServiceTest {
   void create는_유저를_생성할_수_있다() {
     // given
     UserCreateDto dto = UserCreateDto.builder()
-            .email("dobidugi@gmail.com")
+            .email("dobidugi2@gmail.com")
             .address("서울시 강남구")
             .nickname("dobidugi")
             .build();
 
     //when
-    UserEntity createUser = userService.create(dto);
+    UserEntity createUser = userService.create(dto).orElseThrow();
     BDDMockito.doNothing().when(mailSender).send(BDDMockito.any(SimpleMailMessage.class));
 
 
@@ -110,6 +117,23 @@ class UserServiceTest {
     assertThat(createUser.getStatus()).isEqualTo(UserStatus.PENDING);
   }
 
+  @Test
+  void create는_같은_이메일로_인증_대기중인_유저가_있으면_새로_만들지_않고_빈_값을_반환한다() {
+    // given
+    UserCreateDto dto = UserCreateDto.builder()
+            .email("asd3@naver.com")
+            .address("서울시 강남구")
+            .nickname("dobidugi")
+            .build();
+
+    //when
+    Optional<UserEntity> createUser = userService.create(dto);
+
+    //then
+    assertThat(createUser).isEmpty();
+    assertThat(userRepository.findById(2L).get().getCertificationCode()).isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+  }
+
   @Test
   void update는_유저를_수정할_수_있다() {
     //given
@@ -137,6 +161,7 @@ class UserServiceTest {
 
     //when
     userService.login(1L);
+    loginTimestampWriteBehind.flush();
 
     //then
     UserEntity userEntity = userService.getById(1);
@@ -144,6 +169,20 @@ class UserServiceTest {
     assertThat(userEntity.getLastLoginAt()).isGreaterThan(0L);
   }
 
+  @Test
+  void 같은_유저의_로그인은_하나의_UPDATE_로_합쳐진다() {
+    //given
+    userService.login(1L);
+    userService.login(1L);
+
+    //when
+    int flushed = loginTimestampWriteBehind.flush();
+
+    //then
+    assertThat(flushed).isEqualTo(1);
+    assertThat(loginTimestampWriteBehind.flush()).isZero();
+  }
+
   @Test
   void PENDING_상태의_사용자는_인증코드로_ACTIVE_로_변경할_수_있다() {
     //given
@@ -156,15 +195,29 @@ class UserServiceTest {
     assertThat(findUser.getStatus()).isEqualTo(UserStatus.ACTIVE);
   }
 
+  @Test
+  void 이미_ACTIVE_인_사용자의_인증은_아무것도_바꾸지_않고_false_를_반환한다() {
+    //given
+    assertThat(userService.verifyEmail(2L, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab")).isTrue();
+    long version = userRepository.findById(2L).get().getVersion();
+
+    //when
+    boolean verified = userService.verifyEmail(2L, "wrong-code");
+
+    //then
+    assertThat(verified).isFalse();
+    assertThat(userRepository.findById(2L).get().getVersion()).isEqualTo(version);
+  }
+
   @Test
   void PENDING_상태의_사용자는_인증코드_실패시_에러를_발생_시킨다() {
     //given
     UserCreateDto dto = UserCreateDto.builder()
-            .email("dobidugi@gmail.com")
+            .email("dobidugi2@gmail.com")
             .address("서울시 강남구")
             .nickname("dobidugi")
             .build();
-    UserEntity createUser = userService.create(dto);
+    UserEntity createUser = userService.create(dto).orElseThrow();
     BDDMockito.doNothing().when(mailSender).send(BDDMockito.any(SimpleMailMessage.class));
     createUser.setStatus(UserStatus.ACTIVE);
     createUser.setCertificationCode("aaaaaa-aaaaa-aaaaa-aaaaa-aaaaa");
@@ -175,4 +228,45 @@ class UserServiceTest {
       userService.verifyEmail(createUser.getId(), "bbbb-bbbbb-bbbbbb");
     }).isInstanceOf(CertificationCodeNotMatchedException.class);
   }
-}
\ No newline at end of file
+
+  @Test
+  void 만료된_인증코드로는_인증할_수_없다() {
+    //given
+    UserEntity pendingUser = userRepository.findById(2L).get();
+    pendingUser.setCertificationExpiresAt(1L);
+    userRepository.save(pendingUser);
+
+    //when
+    //then
+    assertThatThrownBy(() -> {
+      userService.verifyEmail(2L, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+    }).isInstanceOf(CertificationCodeNotMatchedException.class);
+  }
+
+  @Test
+  void 인증에_성공하면_인증코드를_지운다() {
+    //given
+    //when
+    userService.verifyEmail(2L, "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab");
+
+    //then
+    UserEntity findUser = userRepository.findById(2L).get();
+    assertThat(findUser.getCertificationCode()).isNull();
+    assertThat(findUser.getCertificationExpiresAt()).isNull();
+  }
+
+  @Test
+  void purge는_만료된_인증코드를_지운다() {
+    //given
+    UserEntity pendingUser = userRepository.findById(2L).get();
+    pendingUser.setCertificationExpiresAt(1L);
+    userRepository.save(pendingUser);
+
+    //when
+    int purged = certificationCodePurger.purge();
+
+    //then
+    assertThat(purged).isEqualTo(1);
+    assertThat(userRepository.findById(2L).get().getCertificationCode()).isNull();
+  }
+}
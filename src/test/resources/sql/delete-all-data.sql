@@ -1,2 +1,4 @@
+delete from `post_contents` where 1;
+delete from `mail_outbox` where 1;
 delete from `posts` where 1;
 delete from `users` where 1;
\ No newline at end of file
@@ -0,0 +1,8 @@
+insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `status`, `last_login_at`, `version`)
+values (1, 'dobidugi@gmail.com', 'dobi', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0, 0);
+insert into `posts` (`id`, `content`, `created_at`, `modified_at`, `user_id`, `version`)
+values (1, 'helloworld', 1678530673958, 0, 1, 0);
+insert into `posts` (`id`, `content`, `created_at`, `modified_at`, `user_id`, `version`)
+values (2, 'second', 1678530673958, 0, 1, 0);
+insert into `posts` (`id`, `content`, `created_at`, `modified_at`, `user_id`, `version`)
+values (3, 'third', 1678530680000, 0, 1, 0);
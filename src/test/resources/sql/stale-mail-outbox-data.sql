@@ -0,0 +1,2 @@
+insert into `mail_outbox` (`id`, `recipient`, `subject`, `body`, `status`, `attempts`, `next_attempt_at`, `created_at`)
+values (1, 'dobidugi@gmail.com', 'subject', 'body', 'PENDING', 0, 0, 0);
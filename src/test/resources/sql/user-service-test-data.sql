@@ -1,4 +1,4 @@
-insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `status`, `last_login_at`)
-values (1, 'dobidugi@gmail.com', 'dobi', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0);
-insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `status`, `last_login_at`)
-values (2, 'asd3@naver.com', 'dobi2', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab', 'PENDING', 0);
\ No newline at end of file
+insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `status`, `last_login_at`, `version`)
+values (1, 'dobidugi@gmail.com', 'dobi', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', 'ACTIVE', 0, 0);
+insert into `users` (`id`, `email`, `nickname`, `address`, `certification_code`, `certification_expires_at`, `status`, `last_login_at`, `version`)
+values (2, 'asd3@naver.com', 'dobi2', 'Seoul', 'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaab', 4102444800000, 'PENDING', 0, 0);
\ No newline at end of file